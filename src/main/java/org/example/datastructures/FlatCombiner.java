@@ -0,0 +1,148 @@
+package org.example.datastructures;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Flat combining (Hendler, Incze, Shavit, Tzafrir) over a sequential structure S. <br>
+ * Each thread owns a record in a shared publication list. To run an operation, a thread writes the opcode and
+ * argument into its record and then either waits for the result or, if the combiner lock is free, becomes the
+ * combiner and runs every pending operation in the list on the structure. The lock is handed over once per batch
+ * instead of once per operation, and the structure stays in the combiner's cache. <br>
+ * Records that have been idle for CLEANUP_AGE combining passes are unlinked by the combiner, and their owner links
+ * them again on its next operation. <br>
+ * Operations run one at a time, so S does not need to be thread-safe. A RuntimeException thrown by an operation is
+ * rethrown in the thread that requested it.
+ */
+public class FlatCombiner<S> {
+
+    private static final int NONE = -1;
+    private static final int SPINS_BEFORE_YIELD = 64;
+    private static final int CLEANUP_PERIOD = 128;
+    private static final int CLEANUP_AGE = 1024;
+
+    @FunctionalInterface
+    public interface Operations<S> {
+        Object apply(S structure, int opcode, Object argument);
+    }
+
+    private final S structure;
+    private final Operations<S> operations;
+    private final ReentrantLock lock;
+    private final AtomicReference<Record> publications;
+    private final ThreadLocal<Record> records;
+    // guarded by lock
+    private int pass;
+
+    public FlatCombiner(S structure, Operations<S> operations) {
+        this.structure = structure;
+        this.operations = operations;
+        this.lock = new ReentrantLock();
+        this.publications = new AtomicReference<>();
+        this.records = ThreadLocal.withInitial(Record::new);
+        this.pass = 0;
+    }
+
+    /**
+     * Runs the operation, either in the calling thread as the combiner or in whichever thread is combining.
+     *
+     * @param opcode a non-negative code that the Operations passed to the constructor understands
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(int opcode, Object argument) {
+        if (opcode < 0) {
+            throw new IllegalArgumentException("opcode must not be negative");
+        }
+        var record = records.get();
+        record.argument = argument;
+        record.opcode = opcode;
+        int spins = 0;
+        while (record.opcode != NONE) {
+            if (!record.linked) {
+                link(record);
+            }
+            if (lock.tryLock()) {
+                try {
+                    // serve our own record first, it may have been unlinked after we checked
+                    serve(record);
+                    combine();
+                } finally {
+                    lock.unlock();
+                }
+            } else if (++spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        var failure = record.failure;
+        var result = record.result;
+        record.argument = null;
+        record.result = null;
+        record.failure = null;
+        if (failure != null) {
+            throw failure;
+        }
+        return (R) result;
+    }
+
+    private void link(Record record) {
+        record.linked = true;
+        Record first;
+        do {
+            first = publications.get();
+            record.next = first;
+        } while (!publications.compareAndSet(first, record));
+    }
+
+    // Called with lock held.
+    private void combine() {
+        pass++;
+        boolean cleanup = (pass % CLEANUP_PERIOD == 0);
+        Record prev = null;
+        var it = publications.get();
+        while (it != null) {
+            // read before it.linked is cleared, from then on the owner may relink the record and overwrite next
+            var next = it.next;
+            if (serve(it)) {
+                it.lastPass = pass;
+                prev = it;
+            } else if (cleanup && prev != null && pass - it.lastPass > CLEANUP_AGE) {
+                // Never unlink the first record, threads CAS new records in front of it. The owner relinks its
+                // record itself if it publishes an operation after this.
+                prev.next = next;
+                it.linked = false;
+            } else {
+                prev = it;
+            }
+            it = next;
+        }
+    }
+
+    // Called with lock held.
+    private boolean serve(Record record) {
+        int opcode = record.opcode;
+        if (opcode == NONE) {
+            return false;
+        }
+        try {
+            record.result = operations.apply(structure, opcode, record.argument);
+        } catch (RuntimeException e) {
+            record.failure = e;
+        }
+        // volatile write, publishes result and failure to the owner
+        record.opcode = NONE;
+        return true;
+    }
+
+    private static class Record {
+        volatile int opcode = NONE;
+        volatile boolean linked;
+        Object argument;
+        Object result;
+        RuntimeException failure;
+        // guarded by lock
+        int lastPass;
+        Record next;
+    }
+}
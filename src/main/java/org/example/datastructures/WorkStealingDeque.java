@@ -0,0 +1,133 @@
+package org.example.datastructures;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Chase-Lev work-stealing deque. One owner thread pushes and pops at the bottom (LIFO), any number of other threads
+ * steal from the top (FIFO), which hands thieves the oldest and usually largest tasks. <br>
+ * push() never uses a CAS, and pop() only needs one when it races a thief for the last item. steal() takes an item
+ * with a single CAS on top. The items live in a circular array that the owner doubles when it is full. A thief that
+ * still reads the old array finds the same items there, because they are copied and never cleared in the old one. <br>
+ * push() and pop() must only be called by the owner thread. Null items are not allowed, pop() and steal() return null
+ * when there is nothing to take.
+ */
+public class WorkStealingDeque<E> {
+
+    private static final int INITIAL_CAPACITY = 32;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<WorkStealingDeque> TOP =
+            AtomicLongFieldUpdater.newUpdater(WorkStealingDeque.class, "top");
+
+    // next index to steal from, only ever incremented (by CAS)
+    private volatile long top;
+    // next index to push to, only written by the owner
+    private volatile long bottom;
+    private volatile AtomicReferenceArray<E> array;
+
+    public WorkStealingDeque() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public WorkStealingDeque(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be greater than 0");
+        }
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        array = new AtomicReferenceArray<>(capacity);
+        top = 0;
+        bottom = 0;
+    }
+
+    /**
+     * Owner only.
+     */
+    public void push(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        long b = bottom;
+        long t = top;
+        var a = array;
+        if (b - t >= a.length()) {
+            a = grow(a, t, b);
+        }
+        a.lazySet((int) b & (a.length() - 1), item);
+        // volatile write, publishes the item to thieves
+        bottom = b + 1;
+    }
+
+    /**
+     * Owner only.
+     *
+     * @return the most recently pushed item, or null if the deque is empty
+     */
+    public E pop() {
+        long b = bottom - 1;
+        var a = array;
+        // Claim the slot before reading top. Both are volatile, so a thief cannot miss the claim while we miss its
+        // steal.
+        bottom = b;
+        long t = top;
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+        int index = (int) b & (a.length() - 1);
+        var item = a.get(index);
+        if (t == b) {
+            // last item, race the thieves for it
+            if (!TOP.compareAndSet(this, t, t + 1)) {
+                item = null;
+            }
+            bottom = b + 1;
+            return item;
+        }
+        a.lazySet(index, null);
+        return item;
+    }
+
+    /**
+     * Any thread.
+     *
+     * @return the oldest item, or null if the deque is empty
+     */
+    public E steal() {
+        while (true) {
+            long t = top;
+            long b = bottom;
+            if (t >= b) {
+                return null;
+            }
+            var a = array;
+            var item = a.get((int) t & (a.length() - 1));
+            if (TOP.compareAndSet(this, t, t + 1)) {
+                return item;
+            }
+            // another thief or the owner took item t, try the next one
+        }
+    }
+
+    public int size() {
+        return (int) Math.max(bottom - top, 0);
+    }
+
+    public boolean isEmpty() {
+        return bottom <= top;
+    }
+
+    int capacity() {
+        return array.length();
+    }
+
+    private AtomicReferenceArray<E> grow(AtomicReferenceArray<E> old, long t, long b) {
+        var grown = new AtomicReferenceArray<E>(old.length() << 1);
+        int oldMask = old.length() - 1;
+        int newMask = grown.length() - 1;
+        for (long i = t; i < b; i++) {
+            grown.lazySet((int) i & newMask, old.get((int) i & oldMask));
+        }
+        array = grown;
+        return grown;
+    }
+}
@@ -0,0 +1,249 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+/**
+ * Array-backed binary min-heap shared by the priority queue implementations. Not thread-safe, callers provide the
+ * locking. size() may be read without a lock.
+ */
+class BinaryHeap<E extends Comparable<E>> {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    // the heap never shrinks below this, so callers should pass an intended minimum, not a one-off size hint
+    private final int minCapacity;
+    private Object[] heap;
+    private volatile int addAt;
+
+    BinaryHeap(int capacity) {
+        capacity = Math.max(capacity, DEFAULT_CAPACITY);
+        if (Integer.bitCount(capacity) != 1) {
+            capacity = (1 << (32 - Integer.numberOfLeadingZeros(capacity)));
+        }
+        minCapacity = capacity;
+        heap = new Object[capacity];
+        this.addAt = 0;
+    }
+
+    void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        if (addAt == heap.length) {
+            reAllocate();
+        }
+        heap[addAt] = item;
+        moved(addAt);
+        bubbleUp(addAt);
+        addAt++;
+    }
+
+    /**
+     * Appends all items and restores the heap property. Appending to an empty or smaller heap rebuilds it bottom-up
+     * in O(n), otherwise every new item is bubbled up.
+     */
+    void addAll(Object[] items) {
+        for (var item : items) {
+            if (item == null) {
+                throw new NullPointerException();
+            }
+        }
+        int oldSize = addAt;
+        int newSize = oldSize + items.length;
+        ensureCapacity(newSize);
+        System.arraycopy(items, 0, heap, oldSize, items.length);
+        for (int i = oldSize; i < newSize; i++) {
+            moved(i);
+        }
+        if (items.length >= oldSize) {
+            for (int i = (newSize >>> 1) - 1; i >= 0; i--) {
+                bubbleDown(i, newSize);
+            }
+        } else {
+            for (int i = oldSize; i < newSize; i++) {
+                bubbleUp(i);
+            }
+        }
+        addAt = newSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    E removeTop() throws NoSuchElementException {
+        if (addAt == 0) {
+            throw new NoSuchElementException();
+        }
+        var retVal = heap[0];
+        heap[0] = heap[addAt - 1];
+        heap[addAt - 1] = null;
+        addAt--;
+        if (addAt > 0) {
+            moved(0);
+        }
+        bubbleDown(0, addAt);
+        shrinkIfSparse();
+        return (E) retVal;
+    }
+
+    /**
+     * Replaces the top item with item and sifts it down, cheaper than removeTop() followed by add().
+     */
+    @SuppressWarnings("unchecked")
+    E replaceTop(E item) throws NoSuchElementException {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        if (addAt == 0) {
+            throw new NoSuchElementException();
+        }
+        var retVal = heap[0];
+        heap[0] = item;
+        moved(0);
+        bubbleDown(0, addAt);
+        return (E) retVal;
+    }
+
+    /**
+     * Removes the item at index by moving the last item into its slot and sifting that one into place.
+     */
+    @SuppressWarnings("unchecked")
+    E removeAt(int index) {
+        var retVal = heap[index];
+        int last = addAt - 1;
+        heap[index] = heap[last];
+        heap[last] = null;
+        addAt = last;
+        if (index != last) {
+            moved(index);
+            siftAt(index);
+        }
+        shrinkIfSparse();
+        return (E) retVal;
+    }
+
+    /**
+     * Restores the heap property after the priority of the item at index has changed in either direction.
+     */
+    void siftAt(int index) {
+        if (bubbleUp(index) == index) {
+            bubbleDown(index, addAt);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    E get(int index) {
+        return (E) heap[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    E peekTop() throws NoSuchElementException {
+        if (addAt == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) heap[0];
+    }
+
+    int drainTo(Collection<? super E> target, int maxItems) {
+        int count = 0;
+        while (count < maxItems && addAt > 0) {
+            // removed only once target accepted it, a throwing target leaves the item in the heap
+            target.add(peekTop());
+            removeTop();
+            count++;
+        }
+        return count;
+    }
+
+    int size() {
+        return addAt;
+    }
+
+    int capacity() {
+        return heap.length;
+    }
+
+    void ensureCapacity(int minCapacity) {
+        if (minCapacity <= heap.length) {
+            return;
+        }
+        int newSize = Integer.highestOneBit(minCapacity - 1) << 1;
+        heap = Arrays.copyOf(heap, newSize);
+    }
+
+    /**
+     * Called whenever an item is stored at index, so subclasses can keep track of positions.
+     */
+    void moved(int index) {
+    }
+
+    /**
+     * Shrinks the array to the smallest power of two that holds the current items, but not below the initial
+     * capacity.
+     */
+    void trimToSize() {
+        int newSize = Math.max(minCapacity, Integer.highestOneBit(Math.max(addAt - 1, 1)) << 1);
+        if (newSize < heap.length) {
+            heap = Arrays.copyOf(heap, newSize);
+        }
+    }
+
+    // Halve once only a quarter is used. Growing happens at full, so after either resize the array is half full
+    // and alternating adds and removes around a boundary cannot make it resize back and forth.
+    private void shrinkIfSparse() {
+        if (heap.length > minCapacity && addAt <= (heap.length >>> 2)) {
+            heap = Arrays.copyOf(heap, heap.length >>> 1);
+        }
+    }
+
+    void reAllocate() {
+        int newSize = (heap.length << 1);
+        heap = Arrays.copyOf(heap, newSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    int bubbleUp(int position) {
+        var currPos = position;
+        while (currPos != 0) {
+            int parentPos = (currPos - 1) / 2;
+            var res = ((Comparable<E>) heap[currPos]).compareTo((E) heap[parentPos]);
+            if (res < 0) {
+                Object temp = heap[currPos];
+                heap[currPos] = heap[parentPos];
+                heap[parentPos] = temp;
+                moved(currPos);
+                moved(parentPos);
+                currPos = parentPos;
+                continue;
+            }
+            break;
+        }
+        return currPos;
+    }
+
+    @SuppressWarnings("unchecked")
+    void bubbleDown(int position, int heapSize) {
+        int currPos = position;
+        while (currPos < heapSize) {
+            int lIdx = 2 * currPos + 1;
+            int rIdx = lIdx + 1;
+            if (lIdx >= heapSize) {
+                break;
+            }
+            int smallerIdx = lIdx;
+            if (rIdx < heapSize && ((Comparable<E>) heap[rIdx]).compareTo((E) heap[lIdx]) < 0) {
+                smallerIdx = rIdx;
+            }
+            if (((Comparable<E>) heap[currPos]).compareTo((E) heap[smallerIdx]) > 0) {
+                var temp = heap[smallerIdx];
+                heap[smallerIdx] = heap[currPos];
+                heap[currPos] = temp;
+                moved(currPos);
+                moved(smallerIdx);
+                currPos = smallerIdx;
+            } else {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class BlockingPriorityQueue<E extends Comparable<E>> implements PriorityQueue<E> {
+
+    private final BinaryHeap<E> heap;
+    private final int capacity;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+
+    BlockingPriorityQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    BlockingPriorityQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+        heap = new BinaryHeap<>(Math.min(capacity, 16));
+        lock = new ReentrantLock();
+        notEmpty = lock.newCondition();
+        notFull = lock.newCondition();
+    }
+
+    /**
+     * Inserts without waiting.
+     *
+     * @throws IllegalStateException if the queue is bounded and full
+     */
+    @Override
+    public void add(E item) {
+        lock.lock();
+        try {
+            if (heap.size() == capacity) {
+                throw new IllegalStateException("Queue full");
+            }
+            insert(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(E item) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() == capacity) {
+                notFull.await();
+            }
+            insert(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean offer(E item, long timeout, TimeUnit unit) throws InterruptedException {
+        long waitMore = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() == capacity) {
+                if (waitMore <= 0) {
+                    return false;
+                }
+                waitMore = notFull.awaitNanos(waitMore);
+            }
+            insert(item);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E removeTop() throws NoSuchElementException {
+        lock.lock();
+        try {
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() == 0) {
+                notEmpty.await();
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the top item, or null if none became available before the timeout
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long waitMore = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() == 0) {
+                if (waitMore <= 0) {
+                    return null;
+                }
+                waitMore = notEmpty.awaitNanos(waitMore);
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peekTop() throws NoSuchElementException {
+        lock.lock();
+        try {
+            return heap.peekTop();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    public int remainingCapacity() {
+        return capacity - heap.size();
+    }
+
+    // Each insert makes exactly one item available, so waking one consumer is enough.
+    private void insert(E item) {
+        heap.add(item);
+        notEmpty.signal();
+    }
+
+    private E extract() {
+        var retVal = heap.removeTop();
+        if (capacity != Integer.MAX_VALUE) {
+            notFull.signal();
+        }
+        return retVal;
+    }
+}
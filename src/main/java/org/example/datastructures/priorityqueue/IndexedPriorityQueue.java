@@ -0,0 +1,91 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min-heap that remembers the position of every item, so an item can be re-prioritised or removed in O(log n)
+ * instead of being queued again. <br>
+ * Items are looked up with equals()/hashCode(), which therefore must not depend on the fields that decide the
+ * priority. An item can be queued only once.
+ */
+public class IndexedPriorityQueue<E extends Comparable<E>> implements PriorityQueue<E> {
+
+    private final IndexedHeap<E> heap;
+
+    IndexedPriorityQueue(int capacity) {
+        heap = new IndexedHeap<>(capacity);
+    }
+
+    /**
+     * @throws IllegalArgumentException if an equal item is already queued
+     */
+    @Override
+    public synchronized void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        if (heap.positions.containsKey(item)) {
+            throw new IllegalArgumentException("Item is already queued");
+        }
+        heap.add(item);
+    }
+
+    @Override
+    public synchronized E removeTop() throws NoSuchElementException {
+        var retVal = heap.removeTop();
+        heap.positions.remove(retVal);
+        return retVal;
+    }
+
+    @Override
+    public synchronized E peekTop() throws NoSuchElementException {
+        return heap.peekTop();
+    }
+
+    /**
+     * Moves item to its new place after its priority has changed, in either direction.
+     *
+     * @return false if the item is not queued
+     */
+    public synchronized boolean updatePriority(E item) {
+        var index = heap.positions.get(item);
+        if (index == null) {
+            return false;
+        }
+        heap.siftAt(index);
+        return true;
+    }
+
+    public synchronized boolean remove(E item) {
+        var index = heap.positions.remove(item);
+        if (index == null) {
+            return false;
+        }
+        heap.removeAt(index);
+        return true;
+    }
+
+    public synchronized boolean contains(E item) {
+        return heap.positions.containsKey(item);
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    private static class IndexedHeap<E extends Comparable<E>> extends BinaryHeap<E> {
+        final Map<E, Integer> positions = new HashMap<>();
+
+        IndexedHeap(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        void moved(int index) {
+            positions.put(get(index), index);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min-heap of (long key, int payload) pairs kept in parallel primitive arrays, 12 bytes per entry with no
+ * per-entry object. add and removeTop allocate nothing unless the arrays have to grow. <br>
+ * All methods synchronize on the queue itself, so a caller that needs to look at the top key and remove it atomically
+ * can wrap both calls in {@code synchronized (queue)}.
+ */
+public class LongPriorityQueue {
+
+    private long[] keys;
+    private int[] payloads;
+    private volatile int size;
+
+    LongPriorityQueue(int capacity) {
+        capacity = Math.max(capacity, 16);
+        keys = new long[capacity];
+        payloads = new int[capacity];
+        size = 0;
+    }
+
+    public synchronized void add(long key, int payload) {
+        if (size == keys.length) {
+            int newSize = keys.length << 1;
+            keys = Arrays.copyOf(keys, newSize);
+            payloads = Arrays.copyOf(payloads, newSize);
+        }
+        int pos = size;
+        while (pos != 0) {
+            int parentPos = (pos - 1) >>> 1;
+            if (keys[parentPos] <= key) {
+                break;
+            }
+            keys[pos] = keys[parentPos];
+            payloads[pos] = payloads[parentPos];
+            pos = parentPos;
+        }
+        keys[pos] = key;
+        payloads[pos] = payload;
+        size++;
+    }
+
+    /**
+     * @return the payload of the entry with the smallest key
+     */
+    public synchronized int removeTop() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int retVal = payloads[0];
+        int last = size - 1;
+        long key = keys[last];
+        int payload = payloads[last];
+        size = last;
+        int pos = 0;
+        while (true) {
+            int lIdx = 2 * pos + 1;
+            if (lIdx >= last) {
+                break;
+            }
+            int smallerIdx = lIdx;
+            if (lIdx + 1 < last && keys[lIdx + 1] < keys[lIdx]) {
+                smallerIdx = lIdx + 1;
+            }
+            if (key <= keys[smallerIdx]) {
+                break;
+            }
+            keys[pos] = keys[smallerIdx];
+            payloads[pos] = payloads[smallerIdx];
+            pos = smallerIdx;
+        }
+        keys[pos] = key;
+        payloads[pos] = payload;
+        return retVal;
+    }
+
+    public synchronized long peekTopKey() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0];
+    }
+
+    public synchronized int peekTopPayload() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return payloads[0];
+    }
+
+    public int size() {
+        return size;
+    }
+}
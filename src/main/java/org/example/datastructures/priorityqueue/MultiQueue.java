@@ -0,0 +1,154 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Relaxed priority queue made of c * threads independent binary heaps, each guarded by its own lock. <br>
+ * add() inserts into a random heap whose lock it can get without waiting. removeTop() samples two random heaps,
+ * compares their tops and removes from the better one. Operations rarely meet on the same lock, so throughput grows
+ * with the thread count, at the cost of removeTop() returning an item that is only close to the smallest one: the
+ * expected rank error grows linearly with the number of heaps. <br>
+ * removeTop() only throws NoSuchElementException once a scan of every heap finds them all empty and no add is
+ * outstanding.
+ */
+public class MultiQueue<E extends Comparable<E>> implements PriorityQueue<E> {
+
+    private final SubQueue<E>[] queues;
+    private final LongAdder size;
+    // null unless a test passes a seeded Random, which is not thread-safe enough to share between threads
+    private final Random seeded;
+
+    MultiQueue() {
+        this(Runtime.getRuntime().availableProcessors(), 2);
+    }
+
+    MultiQueue(int threads, int queuesPerThread) {
+        this(threads, queuesPerThread, null);
+    }
+
+    /**
+     * With a seeded random, single-threaded runs pick the same heaps every time.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    MultiQueue(int threads, int queuesPerThread, Random random) {
+        if (threads < 1 || queuesPerThread < 1) {
+            throw new IllegalArgumentException("threads and queuesPerThread must be greater than 0");
+        }
+        int count = Math.max(2, threads * queuesPerThread);
+        queues = new SubQueue[count];
+        for (int i = 0; i < count; i++) {
+            queues[i] = new SubQueue<>();
+        }
+        size = new LongAdder();
+        seeded = random;
+    }
+
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        var random = random();
+        while (true) {
+            var queue = queues[random.nextInt(queues.length)];
+            if (queue.lock.tryLock()) {
+                try {
+                    queue.heap.add(item);
+                    queue.top = queue.heap.peekTop();
+                } finally {
+                    queue.lock.unlock();
+                }
+                size.increment();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public E removeTop() throws NoSuchElementException {
+        var random = random();
+        for (int attempt = 0; attempt < queues.length; attempt++) {
+            var first = queues[random.nextInt(queues.length)];
+            var second = queues[random.nextInt(queues.length)];
+            var firstTop = first.top;
+            var secondTop = second.top;
+            if (firstTop == null && secondTop == null) {
+                continue;
+            }
+            var better = (secondTop == null || (firstTop != null && firstTop.compareTo(secondTop) <= 0))
+                    ? first : second;
+            if (better.lock.tryLock()) {
+                try {
+                    if (better.heap.size() > 0) {
+                        return removeLocked(better);
+                    }
+                } finally {
+                    better.lock.unlock();
+                }
+            }
+        }
+        // Sampling kept hitting empty or busy heaps, make sure the queue is really empty before giving up. A single
+        // scan is not enough, another thread can take an item from a heap ahead of the scan and add one behind it.
+        do {
+            for (var queue : queues) {
+                if (queue.top == null) {
+                    continue;
+                }
+                queue.lock.lock();
+                try {
+                    if (queue.heap.size() > 0) {
+                        return removeLocked(queue);
+                    }
+                } finally {
+                    queue.lock.unlock();
+                }
+            }
+        } while (size.sum() > 0);
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * Returns the smallest of the current heap tops. The result may be stale by the time the caller uses it.
+     */
+    @Override
+    public E peekTop() throws NoSuchElementException {
+        E best = null;
+        for (var queue : queues) {
+            var top = queue.top;
+            if (top != null && (best == null || top.compareTo(best) < 0)) {
+                best = top;
+            }
+        }
+        if (best == null) {
+            throw new NoSuchElementException();
+        }
+        return best;
+    }
+
+    @Override
+    public int size() {
+        return size.intValue();
+    }
+
+    private Random random() {
+        return (seeded != null) ? seeded : ThreadLocalRandom.current();
+    }
+
+    private E removeLocked(SubQueue<E> queue) {
+        var retVal = queue.heap.removeTop();
+        queue.top = (queue.heap.size() > 0) ? queue.heap.peekTop() : null;
+        size.decrement();
+        return retVal;
+    }
+
+    private static class SubQueue<E extends Comparable<E>> {
+        final ReentrantLock lock = new ReentrantLock();
+        final BinaryHeap<E> heap = new BinaryHeap<>(16);
+        // Published copy of heap.peekTop() so removeTop() can compare heaps without locking them.
+        volatile E top;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Pairing heap: a heap-ordered tree in which every node keeps its first child and its next sibling. add() and meld()
+ * link two roots in O(1), and removeTop() merges the root's children pairwise in two passes, O(log n) amortised. <br>
+ * Not thread-safe, see SynchronizedPairingHeap.
+ */
+public class PairingHeap<E extends Comparable<E>> implements PriorityQueue<E> {
+
+    private Node<E> root;
+    private int size;
+
+    PairingHeap() {
+        root = null;
+        size = 0;
+    }
+
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        root = link(root, new Node<>(item));
+        size++;
+    }
+
+    @Override
+    public E removeTop() throws NoSuchElementException {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        var retVal = root.item;
+        root = combineSiblings(root.child);
+        size--;
+        return retVal;
+    }
+
+    @Override
+    public E peekTop() throws NoSuchElementException {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        return root.item;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves every item of other into this heap in O(1). other is left empty.
+     */
+    public void meld(PairingHeap<E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot meld a heap with itself");
+        }
+        root = link(root, other.root);
+        size += other.size;
+        other.root = null;
+        other.size = 0;
+    }
+
+    private static <E extends Comparable<E>> Node<E> link(Node<E> a, Node<E> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (b.item.compareTo(a.item) < 0) {
+            var temp = a;
+            a = b;
+            b = temp;
+        }
+        b.sibling = a.child;
+        a.child = b;
+        return a;
+    }
+
+    // Iterative two-pass pairing, so long sibling lists cannot overflow the stack.
+    private static <E extends Comparable<E>> Node<E> combineSiblings(Node<E> first) {
+        if (first == null) {
+            return null;
+        }
+        // First pass: link siblings in pairs from left to right, stacking the results through their sibling field.
+        Node<E> pairs = null;
+        while (first != null) {
+            var a = first;
+            var b = a.sibling;
+            if (b == null) {
+                a.sibling = pairs;
+                pairs = a;
+                break;
+            }
+            first = b.sibling;
+            a.sibling = null;
+            b.sibling = null;
+            var merged = link(a, b);
+            merged.sibling = pairs;
+            pairs = merged;
+        }
+        // Second pass: link the pairs from right to left, which is the order they were stacked in.
+        var result = pairs;
+        pairs = pairs.sibling;
+        result.sibling = null;
+        while (pairs != null) {
+            var next = pairs.sibling;
+            pairs.sibling = null;
+            result = link(result, pairs);
+            pairs = next;
+        }
+        return result;
+    }
+
+    private static class Node<E> {
+        final E item;
+        Node<E> child;
+        Node<E> sibling;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * Lock-free priority queue on top of a lock-free skip list. Nodes are ordered by priority and then by insertion
+ * sequence, so equal priorities are served in FIFO order and every node has a distinct key. <br>
+ * removeTop() walks the bottom level and claims the first node whose taken flag it can flip (logical deletion), then
+ * unlinks it from the skip list (physical deletion). <br>
+ * The queue is quiescently consistent rather than linearizable: removeTop() may miss an item with a smaller priority
+ * that is inserted behind the position it is currently scanning.
+ */
+public class SkipListPriorityQueue<E extends Comparable<E>> implements PriorityQueue<E> {
+
+    private static final int MAX_LEVEL = 31;
+
+    private final Node<E> head;
+    private final Node<E> tail;
+    private final AtomicLong sequence;
+    private final AtomicInteger size;
+
+    SkipListPriorityQueue() {
+        head = new Node<>(null, Long.MIN_VALUE, MAX_LEVEL);
+        tail = new Node<>(null, Long.MAX_VALUE, MAX_LEVEL);
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            head.next[level].set(tail, false);
+        }
+        sequence = new AtomicLong(0);
+        size = new AtomicInteger(0);
+    }
+
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        final var node = new Node<>(item, sequence.getAndIncrement(), randomLevel());
+        @SuppressWarnings({"unchecked", "rawtypes"}) final Node<E>[] preds = new Node[MAX_LEVEL + 1];
+        @SuppressWarnings({"unchecked", "rawtypes"}) final Node<E>[] succs = new Node[MAX_LEVEL + 1];
+        size.incrementAndGet();
+        while (true) {
+            find(node, preds, succs);
+            for (int level = 0; level <= node.topLevel; level++) {
+                node.next[level].set(succs[level], false);
+            }
+            if (preds[0].next[0].compareAndSet(succs[0], node, false, false)) {
+                break;
+            }
+        }
+        for (int level = 1; level <= node.topLevel; level++) {
+            while (true) {
+                final var succ = succs[level];
+                final var curr = node.next[level].getReference();
+                if (curr != succ && !node.next[level].compareAndSet(curr, succ, false, false)) {
+                    // node is already being removed, no point in linking it any higher
+                    return;
+                }
+                if (preds[level].next[level].compareAndSet(succ, node, false, false)) {
+                    break;
+                }
+                if (!find(node, preds, succs)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public E removeTop() throws NoSuchElementException {
+        var curr = head.next[0].getReference();
+        while (curr != tail) {
+            if (!curr.taken.get() && curr.taken.compareAndSet(false, true)) {
+                size.decrementAndGet();
+                unlink(curr);
+                return curr.item;
+            }
+            curr = curr.next[0].getReference();
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public E peekTop() throws NoSuchElementException {
+        var curr = head.next[0].getReference();
+        while (curr != tail) {
+            if (!curr.taken.get()) {
+                return curr.item;
+            }
+            curr = curr.next[0].getReference();
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    private void unlink(Node<E> node) {
+        final var marked = new boolean[1];
+        for (int level = node.topLevel; level >= 1; level--) {
+            var succ = node.next[level].get(marked);
+            while (!marked[0]) {
+                node.next[level].attemptMark(succ, true);
+                succ = node.next[level].get(marked);
+            }
+        }
+        var succ = node.next[0].get(marked);
+        while (!marked[0]) {
+            node.next[0].attemptMark(succ, true);
+            succ = node.next[0].get(marked);
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"}) final Node<E>[] preds = new Node[MAX_LEVEL + 1];
+        @SuppressWarnings({"unchecked", "rawtypes"}) final Node<E>[] succs = new Node[MAX_LEVEL + 1];
+        // snips every marked node on the search path, including this one
+        find(node, preds, succs);
+    }
+
+    /**
+     * Fills preds and succs with the nodes surrounding target on every level, unlinking marked nodes on the way.
+     * Returns true if target is linked at the bottom level.
+     */
+    private boolean find(Node<E> target, Node<E>[] preds, Node<E>[] succs) {
+        final var marked = new boolean[1];
+        retry:
+        while (true) {
+            var pred = head;
+            for (int level = MAX_LEVEL; level >= 0; level--) {
+                var curr = pred.next[level].getReference();
+                while (true) {
+                    var succ = curr.next[level].get(marked);
+                    while (marked[0]) {
+                        if (!pred.next[level].compareAndSet(curr, succ, false, false)) {
+                            continue retry;
+                        }
+                        curr = succ;
+                        succ = curr.next[level].get(marked);
+                    }
+                    if (curr != tail && curr.compareTo(target) < 0) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return succs[0] == target;
+        }
+    }
+
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << MAX_LEVEL));
+    }
+
+    private static class Node<E extends Comparable<E>> {
+        final E item;
+        final long seq;
+        final int topLevel;
+        final AtomicMarkableReference<Node<E>>[] next;
+        final AtomicBoolean taken;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Node(E item, long seq, int topLevel) {
+            this.item = item;
+            this.seq = seq;
+            this.topLevel = topLevel;
+            this.next = new AtomicMarkableReference[topLevel + 1];
+            for (int level = 0; level <= topLevel; level++) {
+                next[level] = new AtomicMarkableReference<>(null, false);
+            }
+            this.taken = new AtomicBoolean(false);
+        }
+
+        int compareTo(Node<E> other) {
+            var res = item.compareTo(other.item);
+            return res != 0 ? res : Long.compare(seq, other.seq);
+        }
+    }
+}
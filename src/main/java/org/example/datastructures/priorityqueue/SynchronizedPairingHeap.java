@@ -0,0 +1,57 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Thread-safe wrapper around PairingHeap. meld() first empties the other heap under the other heap's monitor and then
+ * links its tree in under this heap's monitor. It never holds both monitors, so two threads melding a pair of heaps
+ * in opposite directions cannot deadlock. The price is that, between the two steps, the moved items are visible in
+ * neither heap.
+ */
+public class SynchronizedPairingHeap<E extends Comparable<E>> implements PriorityQueue<E> {
+
+    private PairingHeap<E> heap;
+
+    SynchronizedPairingHeap() {
+        heap = new PairingHeap<>();
+    }
+
+    @Override
+    public synchronized void add(E item) {
+        heap.add(item);
+    }
+
+    @Override
+    public synchronized E removeTop() throws NoSuchElementException {
+        return heap.removeTop();
+    }
+
+    @Override
+    public synchronized E peekTop() throws NoSuchElementException {
+        return heap.peekTop();
+    }
+
+    @Override
+    public synchronized int size() {
+        return heap.size();
+    }
+
+    /**
+     * Moves every item of other into this heap in O(1). other is left empty.
+     */
+    public void meld(SynchronizedPairingHeap<E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot meld a heap with itself");
+        }
+        var taken = other.detach();
+        synchronized (this) {
+            heap.meld(taken);
+        }
+    }
+
+    private synchronized PairingHeap<E> detach() {
+        var detached = heap;
+        heap = new PairingHeap<>();
+        return detached;
+    }
+}
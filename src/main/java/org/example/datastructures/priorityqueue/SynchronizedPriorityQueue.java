@@ -1,106 +1,68 @@
 package org.example.datastructures.priorityqueue;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.NoSuchElementException;
 
 public class SynchronizedPriorityQueue<E extends Comparable<E>> implements PriorityQueue<E> {
 
-    private Object[] heap;
-    private volatile int addAt;
+    private final BinaryHeap<E> heap;
 
     SynchronizedPriorityQueue(int capacity) {
-        capacity = Math.max(capacity, 16);
-        if (Integer.bitCount(capacity) != 1) {
-            capacity = (1 << (32 - Integer.numberOfLeadingZeros(capacity)));
-        }
-        heap = new Object[capacity];
-        this.addAt = 0;
+        heap = new BinaryHeap<>(capacity);
+    }
+
+    SynchronizedPriorityQueue(Collection<? extends E> items) {
+        var snapshot = items.toArray();
+        // addAll() grows the array to fit, the initial burst must not become the floor for shrinking
+        heap = new BinaryHeap<>(BinaryHeap.DEFAULT_CAPACITY);
+        heap.addAll(snapshot);
     }
 
     @Override
     public synchronized void add(E item) {
-        if (item == null) {
-            throw new NullPointerException();
-        }
-        if (addAt == heap.length) {
-            reAllocate();
+        heap.add(item);
+    }
+
+    public void addAll(Collection<? extends E> items) {
+        var snapshot = items.toArray();
+        synchronized (this) {
+            heap.addAll(snapshot);
         }
-        heap[addAt] = item;
-        bubbleUp(addAt);
-        addAt++;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public synchronized E removeTop() throws NoSuchElementException {
-        if (addAt == 0) {
-            throw new NoSuchElementException();
-        }
-        var retVal = heap[0];
-        heap[0] = heap[addAt - 1];
-        heap[addAt - 1] = null;
-        addAt--;
-        bubbleDown(0, addAt);
-        return (E) retVal;
+        return heap.removeTop();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public synchronized E peekTop() throws NoSuchElementException {
-        if (addAt == 0) {
-            throw new NoSuchElementException();
-        }
-        return (E) heap[0];
+        return heap.peekTop();
     }
 
-    @Override
-    public int size() {
-        return addAt;
+    /**
+     * Removes up to maxItems top items into target, in priority order, under a single lock acquisition.
+     *
+     * @return the number of items moved
+     */
+    public synchronized int drainTo(Collection<? super E> target, int maxItems) {
+        return heap.drainTo(target, maxItems);
     }
 
-    void reAllocate() {
-        int newSize = (heap.length << 1);
-        heap = Arrays.copyOf(heap, newSize);
+    /**
+     * Releases array capacity beyond what the current items need. The heap also halves itself automatically once it
+     * is only a quarter full.
+     */
+    public synchronized void trimToSize() {
+        heap.trimToSize();
     }
 
-    @SuppressWarnings("unchecked")
-    void bubbleUp(int position) {
-        var currPos = position;
-        while (currPos != 0) {
-            int parentPos = (currPos - 1) / 2;
-            var res = ((Comparable<E>) heap[currPos]).compareTo((E) heap[parentPos]);
-            if (res < 0) {
-                Object temp = heap[currPos];
-                heap[currPos] = heap[parentPos];
-                heap[parentPos] = temp;
-                currPos = parentPos;
-                continue;
-            }
-            break;
-        }
+    int capacity() {
+        return heap.capacity();
     }
 
-    @SuppressWarnings("unchecked")
-    void bubbleDown(int position, int heapSize) {
-        int currPos = position;
-        while (currPos < heapSize) {
-            int lIdx = 2 * currPos + 1;
-            int rIdx = lIdx + 1;
-            if (lIdx >= heapSize) {
-                break;
-            }
-            int smallerIdx = lIdx;
-            if (rIdx < heapSize && ((Comparable<E>) heap[rIdx]).compareTo((E) heap[lIdx]) < 0) {
-                smallerIdx = rIdx;
-            }
-            if (((Comparable<E>) heap[currPos]).compareTo((E) heap[smallerIdx]) > 0) {
-                var temp = heap[smallerIdx];
-                heap[smallerIdx] = heap[currPos];
-                heap[currPos] = temp;
-                currPos = smallerIdx;
-            } else {
-                break;
-            }
-        }
+    @Override
+    public int size() {
+        return heap.size();
     }
 }
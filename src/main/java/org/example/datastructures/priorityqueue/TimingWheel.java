@@ -0,0 +1,290 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Hierarchical timing wheel. Level 0 has one bucket per tick, and each level above it has buckets wheelSize times
+ * wider than the level below. schedule() and Timeout.cancel() are O(1): they link or unlink a node in a bucket's list.
+ * advanceTo() walks the ticks that have passed. When a tick starts a new bucket on a higher level, that bucket's
+ * timeouts are moved down to finer levels ("cascading"). The level 0 bucket of the tick then expires as a whole. <br>
+ * Time is whatever unit the caller uses consistently, e.g. System.nanoTime() or milliseconds. A timeout never expires
+ * before its deadline and at most one tick after it. <br>
+ * All methods synchronize on the wheel.
+ */
+public class TimingWheel<T> {
+
+    private final long tickDuration;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final List<Bucket<T>[]> levels;
+    // timeouts scheduled with a deadline whose tick has already been processed
+    private final Bucket<T> overdue;
+    // the next tick to process
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long tickDuration, int wheelSize, long startTime) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of 2 greater than 1");
+        }
+        this.tickDuration = tickDuration;
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        this.wheelMask = wheelSize - 1;
+        this.levels = new ArrayList<>();
+        this.overdue = new Bucket<>();
+        this.currentTick = Math.floorDiv(startTime, tickDuration);
+        this.size = 0;
+    }
+
+    public synchronized Timeout<T> schedule(T item, long deadline) {
+        // round up, so a timeout can expire late but never early
+        var timeout = new Timeout<>(this, item, deadline, -Math.floorDiv(-deadline, tickDuration));
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Processes every tick up to now and returns the items whose deadline has passed, in tick order.
+     */
+    public synchronized List<T> advanceTo(long now) {
+        var expired = new ArrayList<T>();
+        expireAll(overdue, expired);
+        long nowTick = Math.floorDiv(now, tickDuration);
+        while (currentTick <= nowTick) {
+            if (size == 0) {
+                currentTick = nowTick + 1;
+                break;
+            }
+            processTick(currentTick, expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the item with the earliest deadline without waiting for it to expire.
+     */
+    public synchronized T peekEarliest() throws NoSuchElementException {
+        var earliest = findEarliest();
+        if (earliest == null) {
+            throw new NoSuchElementException();
+        }
+        return earliest.item;
+    }
+
+    /**
+     * Removes and returns the item with the earliest deadline without waiting for it to expire.
+     */
+    public synchronized T pollEarliest() throws NoSuchElementException {
+        var earliest = findEarliest();
+        if (earliest == null) {
+            throw new NoSuchElementException();
+        }
+        earliest.unlink();
+        earliest.state = Timeout.CANCELLED;
+        size--;
+        return earliest.item;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void insert(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta < 0) {
+            overdue.append(timeout);
+            return;
+        }
+        int level = 0;
+        while ((level + 1) * wheelBits < Long.SIZE - 1 && (delta >>> ((level + 1) * wheelBits)) != 0) {
+            level++;
+        }
+        var buckets = level(level);
+        buckets[(int) ((timeout.deadlineTick >> (level * wheelBits)) & wheelMask)].append(timeout);
+    }
+
+    private void processTick(long tick, List<T> expired) {
+        // Highest level first, so timeouts cascaded from above can still be cascaded further down in this tick.
+        for (int level = levels.size() - 1; level >= 1; level--) {
+            int shift = level * wheelBits;
+            if ((tick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            var bucket = levels.get(level)[(int) ((tick >> shift) & wheelMask)];
+            var it = bucket.detachAll();
+            while (it != null) {
+                var next = it.next;
+                it.prev = null;
+                it.next = null;
+                insert(it);
+                it = next;
+            }
+        }
+        if (!levels.isEmpty()) {
+            expireAll(levels.get(0)[(int) (tick & wheelMask)], expired);
+        }
+    }
+
+    private void expireAll(Bucket<T> bucket, List<T> expired) {
+        var it = bucket.detachAll();
+        while (it != null) {
+            var next = it.next;
+            it.prev = null;
+            it.next = null;
+            it.state = Timeout.EXPIRED;
+            expired.add(it.item);
+            size--;
+            it = next;
+        }
+    }
+
+    private Timeout<T> findEarliest() {
+        var earliest = overdue.earliest(0, 0, false);
+        for (int level = 0; level < levels.size(); level++) {
+            int shift = level * wheelBits;
+            var buckets = levels.get(level);
+            long slot = currentTick >> shift;
+            // The bucket of the current slot can also hold timeouts one full turn ahead, hence wheelSize + 1 slots.
+            for (long i = 0; i <= wheelMask + 1; i++) {
+                var candidate = buckets[(int) ((slot + i) & wheelMask)].earliest(slot + i, shift, true);
+                if (candidate != null) {
+                    if (earliest == null || candidate.deadline < earliest.deadline) {
+                        earliest = candidate;
+                    }
+                    break;
+                }
+            }
+        }
+        return earliest;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Bucket<T>[] level(int level) {
+        while (levels.size() <= level) {
+            var buckets = new Bucket[wheelMask + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new Bucket<>();
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level);
+    }
+
+    public static class Timeout<T> {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final TimingWheel<T> wheel;
+        private final T item;
+        private final long deadline;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int state;
+
+        private Timeout(TimingWheel<T> wheel, T item, long deadline, long deadlineTick) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadline = deadline;
+            this.deadlineTick = deadlineTick;
+            this.state = PENDING;
+        }
+
+        public T item() {
+            return item;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        /**
+         * @return false if the timeout has already expired or been cancelled
+         */
+        public boolean cancel() {
+            synchronized (wheel) {
+                if (state != PENDING) {
+                    return false;
+                }
+                unlink();
+                state = CANCELLED;
+                wheel.size--;
+                return true;
+            }
+        }
+
+        public boolean isExpired() {
+            synchronized (wheel) {
+                return state == EXPIRED;
+            }
+        }
+
+        public boolean isCancelled() {
+            synchronized (wheel) {
+                return state == CANCELLED;
+            }
+        }
+
+        private void unlink() {
+            if (prev == null) {
+                bucket.head = next;
+            } else {
+                prev.next = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            prev = null;
+            next = null;
+            bucket = null;
+        }
+    }
+
+    private static class Bucket<T> {
+        Timeout<T> head;
+
+        void append(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        Timeout<T> detachAll() {
+            var first = head;
+            head = null;
+            for (var it = first; it != null; it = it.next) {
+                it.bucket = null;
+            }
+            return first;
+        }
+
+        /**
+         * Earliest timeout in the bucket, optionally only among those whose deadline tick falls in the given slot.
+         */
+        Timeout<T> earliest(long slot, int shift, boolean matchSlot) {
+            Timeout<T> earliest = null;
+            for (var it = head; it != null; it = it.next) {
+                if (matchSlot && (it.deadlineTick >> shift) != slot) {
+                    continue;
+                }
+                if (earliest == null || it.deadline < earliest.deadline) {
+                    earliest = it;
+                }
+            }
+            return earliest;
+        }
+    }
+}
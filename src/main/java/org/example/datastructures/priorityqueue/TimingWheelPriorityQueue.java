@@ -0,0 +1,52 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exposes a TimingWheel through the PriorityQueue interface, ordered by each item's deadline. add() is O(1).
+ * peekTop() and removeTop() look for the earliest deadline by scanning the buckets of each level, and they do not
+ * wait for the deadline to pass. Code that only needs expired items should call advanceTo() instead.
+ */
+public class TimingWheelPriorityQueue<E> implements PriorityQueue<E> {
+
+    private final TimingWheel<E> wheel;
+    private final ToLongFunction<? super E> deadlineOf;
+
+    TimingWheelPriorityQueue(long tickDuration, int wheelSize, long startTime, ToLongFunction<? super E> deadlineOf) {
+        this.wheel = new TimingWheel<>(tickDuration, wheelSize, startTime);
+        this.deadlineOf = deadlineOf;
+    }
+
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        wheel.schedule(item, deadlineOf.applyAsLong(item));
+    }
+
+    public TimingWheel.Timeout<E> schedule(E item) {
+        return wheel.schedule(item, deadlineOf.applyAsLong(item));
+    }
+
+    public List<E> advanceTo(long now) {
+        return wheel.advanceTo(now);
+    }
+
+    @Override
+    public E removeTop() throws NoSuchElementException {
+        return wheel.pollEarliest();
+    }
+
+    @Override
+    public E peekTop() throws NoSuchElementException {
+        return wheel.peekEarliest();
+    }
+
+    @Override
+    public int size() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.datastructures.priorityqueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the k largest items offered so far, using O(k) memory per offering thread no matter how long the stream is.
+ * <br>
+ * Every thread offers into its own min-heap of at most k items. Once that heap is full, its smallest item is the
+ * threshold: anything not larger is rejected by comparing against a volatile copy of it, without locking or touching
+ * the heap. Larger items replace the smallest one. topK() merges the per-thread heaps when it is called. <br>
+ * When a new thread makes its first offer, the heaps of threads that have terminated are merged into one shared heap
+ * and dropped, so pools that replace their workers keep O(k) memory per live thread.
+ */
+public class TopK<E extends Comparable<E>> {
+
+    private final int k;
+    private final List<SubHeap<E>> subHeaps;
+    private final ThreadLocal<SubHeap<E>> localHeap;
+    // items from the heaps of terminated threads, guards their removal from subHeaps
+    private final SubHeap<E> retired;
+
+    TopK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be greater than 0");
+        }
+        this.k = k;
+        this.subHeaps = new CopyOnWriteArrayList<>();
+        this.retired = new SubHeap<>(k, null);
+        this.localHeap = ThreadLocal.withInitial(() -> {
+            retireTerminated();
+            var subHeap = new SubHeap<E>(k, Thread.currentThread());
+            subHeaps.add(subHeap);
+            return subHeap;
+        });
+    }
+
+    /**
+     * @return true if the item is currently among the k largest items offered by this thread
+     */
+    public boolean offer(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        var subHeap = localHeap.get();
+        var threshold = subHeap.threshold;
+        if (threshold != null && item.compareTo(threshold) <= 0) {
+            return false;
+        }
+        synchronized (subHeap) {
+            insert(subHeap, item);
+        }
+        return true;
+    }
+
+    /**
+     * @return the k largest items offered so far by all threads, largest first
+     */
+    public List<E> topK() {
+        var merged = new ArrayList<E>();
+        // holding retired keeps a heap from being seen both in subHeaps and in retired, or in neither
+        synchronized (retired) {
+            for (var subHeap : subHeaps) {
+                synchronized (subHeap) {
+                    for (int i = 0; i < subHeap.heap.size(); i++) {
+                        merged.add(subHeap.heap.get(i));
+                    }
+                }
+            }
+            for (int i = 0; i < retired.heap.size(); i++) {
+                merged.add(retired.heap.get(i));
+            }
+        }
+        merged.sort(Collections.reverseOrder());
+        return new ArrayList<>(merged.subList(0, Math.min(k, merged.size())));
+    }
+
+    public int capacity() {
+        return k;
+    }
+
+    int subHeapCount() {
+        return subHeaps.size();
+    }
+
+    private void retireTerminated() {
+        for (var subHeap : subHeaps) {
+            if (subHeap.owner.isAlive()) {
+                continue;
+            }
+            synchronized (retired) {
+                if (!subHeaps.remove(subHeap)) {
+                    // another new thread retired it first
+                    continue;
+                }
+                for (int i = 0; i < subHeap.heap.size(); i++) {
+                    var item = subHeap.heap.get(i);
+                    if (retired.threshold == null || item.compareTo(retired.threshold) > 0) {
+                        insert(retired, item);
+                    }
+                }
+            }
+        }
+    }
+
+    // Called with subHeap locked.
+    private void insert(SubHeap<E> subHeap, E item) {
+        if (subHeap.heap.size() < k) {
+            subHeap.heap.add(item);
+        } else {
+            subHeap.heap.replaceTop(item);
+        }
+        if (subHeap.heap.size() == k) {
+            subHeap.threshold = subHeap.heap.peekTop();
+        }
+    }
+
+    private static class SubHeap<E extends Comparable<E>> {
+        final BinaryHeap<E> heap;
+        // null for the heap of retired items
+        final Thread owner;
+        // smallest retained item once the heap holds k items, null before that
+        volatile E threshold;
+
+        SubHeap(int k, Thread owner) {
+            heap = new BinaryHeap<>(k);
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package org.example.datastructures.queue;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Optionally bounded blocking queue with FineLockQueue's two-lock design: producers take tailLock, consumers take
+ * headLock, and each lock has its own condition. <br>
+ * A producer only signals consumers when it makes the queue non-empty, and a consumer only signals producers when it
+ * makes the queue non-full, because only then can anyone be waiting on the other lock. A thread that leaves room (or
+ * items) behind signals the next waiter on its own side, so wake-ups cascade without signalAll(). <br>
+ * add() and poll() keep the non-blocking Queue contract and throw instead of waiting. <br>
+ * Null items are not allowed, poll(timeout, unit) returns null to signal a timeout.
+ */
+public class BlockingLinkedQueue<E> implements Queue<E> {
+
+    private final int capacity;
+    private LNode<E> head;
+    private LNode<E> tail;
+    private final ReentrantLock headLock;
+    private final Condition notEmpty;
+    private final ReentrantLock tailLock;
+    private final Condition notFull;
+    private final AtomicInteger size;
+
+    BlockingLinkedQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    BlockingLinkedQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+        var dummy = new LNode<E>(null);
+        head = dummy;
+        tail = dummy;
+        headLock = new ReentrantLock();
+        notEmpty = headLock.newCondition();
+        tailLock = new ReentrantLock();
+        notFull = tailLock.newCondition();
+        size = new AtomicInteger(0);
+    }
+
+    /**
+     * Inserts without waiting.
+     *
+     * @throws IllegalStateException if the queue is bounded and full
+     */
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        final var node = new LNode<>(item);
+        final int prevSize;
+        tailLock.lock();
+        try {
+            if (size.get() == capacity) {
+                throw new IllegalStateException("Queue full");
+            }
+            prevSize = enqueue(node);
+        } finally {
+            tailLock.unlock();
+        }
+        if (prevSize == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    public void put(E item) throws InterruptedException {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        final var node = new LNode<>(item);
+        final int prevSize;
+        tailLock.lockInterruptibly();
+        try {
+            while (size.get() == capacity) {
+                notFull.await();
+            }
+            prevSize = enqueue(node);
+        } finally {
+            tailLock.unlock();
+        }
+        if (prevSize == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * @return false if no space became available before the timeout
+     */
+    public boolean offer(E item, long timeout, TimeUnit unit) throws InterruptedException {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        final var node = new LNode<>(item);
+        long waitMore = unit.toNanos(timeout);
+        final int prevSize;
+        tailLock.lockInterruptibly();
+        try {
+            while (size.get() == capacity) {
+                if (waitMore <= 0) {
+                    return false;
+                }
+                waitMore = notFull.awaitNanos(waitMore);
+            }
+            prevSize = enqueue(node);
+        } finally {
+            tailLock.unlock();
+        }
+        if (prevSize == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    @Override
+    public E poll() throws NoSuchElementException {
+        final E retVal;
+        final int prevSize;
+        headLock.lock();
+        try {
+            if (size.get() == 0) {
+                throw new NoSuchElementException();
+            }
+            retVal = dequeue();
+            prevSize = decrementAndCascade();
+        } finally {
+            headLock.unlock();
+        }
+        if (prevSize == capacity) {
+            signalNotFull();
+        }
+        return retVal;
+    }
+
+    public E take() throws InterruptedException {
+        final E retVal;
+        final int prevSize;
+        headLock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                notEmpty.await();
+            }
+            retVal = dequeue();
+            prevSize = decrementAndCascade();
+        } finally {
+            headLock.unlock();
+        }
+        if (prevSize == capacity) {
+            signalNotFull();
+        }
+        return retVal;
+    }
+
+    /**
+     * @return the head item, or null if none became available before the timeout
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long waitMore = unit.toNanos(timeout);
+        final E retVal;
+        final int prevSize;
+        headLock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                if (waitMore <= 0) {
+                    return null;
+                }
+                waitMore = notEmpty.awaitNanos(waitMore);
+            }
+            retVal = dequeue();
+            prevSize = decrementAndCascade();
+        } finally {
+            headLock.unlock();
+        }
+        if (prevSize == capacity) {
+            signalNotFull();
+        }
+        return retVal;
+    }
+
+    @Override
+    public E peek() throws NoSuchElementException {
+        headLock.lock();
+        try {
+            if (size.get() == 0) {
+                throw new NoSuchElementException();
+            }
+            return head.next.item;
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(E item) {
+        headLock.lock();
+        try {
+            tailLock.lock();
+            try {
+                var prev = head;
+                var it = head.next;
+                while (it != null) {
+                    if (Objects.equals(it.item, item)) {
+                        prev.next = it.next;
+                        if (it == tail) {
+                            tail = prev;
+                        }
+                        it.item = null;
+                        if (size.getAndDecrement() == capacity) {
+                            notFull.signal();
+                        }
+                        return true;
+                    }
+                    prev = it;
+                    it = it.next;
+                }
+                return false;
+            } finally {
+                tailLock.unlock();
+            }
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    public int remainingCapacity() {
+        return capacity - size.get();
+    }
+
+    // Called with tailLock held. The node is linked before size is incremented, so a consumer that sees size > 0
+    // also sees head.next.
+    private int enqueue(LNode<E> node) {
+        tail.next = node;
+        tail = node;
+        int prevSize = size.getAndIncrement();
+        if (prevSize + 1 < capacity) {
+            notFull.signal();
+        }
+        return prevSize;
+    }
+
+    // Called with headLock held.
+    private E dequeue() {
+        var first = head.next;
+        var retVal = first.item;
+        first.item = null;
+        head = first;
+        return retVal;
+    }
+
+    // Called with headLock held.
+    private int decrementAndCascade() {
+        int prevSize = size.getAndDecrement();
+        if (prevSize > 1) {
+            notEmpty.signal();
+        }
+        return prevSize;
+    }
+
+    private void signalNotEmpty() {
+        headLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        tailLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    private static class LNode<E> {
+        E item;
+        LNode<E> next;
+
+        private LNode(E item) {
+            this.item = item;
+        }
+    }
+}
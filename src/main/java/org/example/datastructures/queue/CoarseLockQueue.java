@@ -1,5 +1,6 @@
 package org.example.datastructures.queue;
 
+import java.util.Collection;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -22,14 +23,58 @@ public class CoarseLockQueue<E> implements Queue<E> {
         var writeLock = lock.writeLock();
         writeLock.lock();
         try {
-            var node = new LNode<>(item, tail, null);
+            linkLast(item);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds item and returns a handle that removes it in O(1). The list is doubly linked, so cancel() unlinks the node
+     * right away under the write lock instead of scanning for it like remove(item) does.
+     */
+    public RemovalHandle addWithHandle(E item) {
+        var writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            return new NodeHandle(linkLast(item));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Links the items into a chain of nodes before locking, then splices the whole chain in under a single write lock
+     * acquisition.
+     */
+    public void addAll(Collection<? extends E> items) {
+        LNode<E> first = null;
+        LNode<E> last = null;
+        int count = 0;
+        for (E item : items) {
+            var node = new LNode<E>(item, last, null);
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        var writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            first.prev = tail;
             if (tail == null) {
-                head = node;
+                head = first;
             } else {
-                tail.next = node;
+                tail.next = first;
             }
-            tail = node;
-            size++;
+            tail = last;
+            size += count;
         } finally {
             writeLock.unlock();
         }
@@ -52,6 +97,29 @@ public class CoarseLockQueue<E> implements Queue<E> {
         }
     }
 
+    /**
+     * Removes up to maxItems items from the head into target, in FIFO order, under a single write lock acquisition.
+     *
+     * @return the number of items moved
+     */
+    public int drainTo(Collection<? super E> target, int maxItems) {
+        var writeLock = lock.writeLock();
+        writeLock.lock();
+        int count = 0;
+        try {
+            while (count < maxItems && head != null) {
+                target.add(head.item);
+                unlinkNode(head);
+                count++;
+            }
+            return count;
+        } finally {
+            // target.add() may throw, the items moved before that are already unlinked
+            size -= count;
+            writeLock.unlock();
+        }
+    }
+
     @Override
     public E peek() throws NoSuchElementException {
         var readLock = lock.readLock();
@@ -91,6 +159,18 @@ public class CoarseLockQueue<E> implements Queue<E> {
         return size;
     }
 
+    private LNode<E> linkLast(E item) {
+        var node = new LNode<>(item, tail, null);
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+        return node;
+    }
+
     protected LNode<E> findNode(E item) {
         var it = head;
         while (it != null) {
@@ -115,12 +195,40 @@ public class CoarseLockQueue<E> implements Queue<E> {
         } else {
             tail = prev;
         }
+        node.prev = null;
+        node.next = null;
+        node.removed = true;
+    }
+
+    private class NodeHandle implements RemovalHandle {
+        private final LNode<E> node;
+
+        private NodeHandle(LNode<E> node) {
+            this.node = node;
+        }
+
+        @Override
+        public boolean cancel() {
+            var writeLock = lock.writeLock();
+            writeLock.lock();
+            try {
+                if (node.removed) {
+                    return false;
+                }
+                unlinkNode(node);
+                size--;
+                return true;
+            } finally {
+                writeLock.unlock();
+            }
+        }
     }
 
     private static class LNode<E> {
         final E item;
         LNode<E> prev;
         LNode<E> next;
+        boolean removed;
 
         private LNode(E item, LNode<E> prev, LNode<E> next) {
             this.item = item;
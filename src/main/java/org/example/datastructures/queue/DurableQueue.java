@@ -0,0 +1,454 @@
+package org.example.datastructures.queue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Queue that survives process restarts. Items are encoded to bytes and appended to memory-mapped segment files in a
+ * directory. The position of the next item to poll is kept in a small memory-mapped offset file. <br>
+ * Record layout: int record length (header included), int CRC32 of the payload, byte state, payload. The length is
+ * written last, so a record whose length is visible is complete. A segment ends at its capacity or at an
+ * END_OF_SEGMENT marker, and a zero length marks the end of the data. On open, the records from the read offset
+ * onwards are checked. The first record with a bad length or checksum (a torn write) and everything after it are
+ * discarded. <br>
+ * Writes go to the page cache. A process crash therefore loses nothing, but a machine crash can lose anything not
+ * yet flushed. force() flushes all dirty segments and the offset file. Callers add a batch and then call force()
+ * once. Concurrent force() calls are grouped: a caller whose changes were already flushed by another thread's
+ * force() returns without flushing again (group commit). Items polled but not yet forced can be delivered again after
+ * a machine crash. <br>
+ * A segment is deleted and unmapped as soon as the read offset leaves it. If a force() is flushing at that moment,
+ * the unmap waits until the flush is done. Without access to Unsafe.invokeCleaner the mapping, and with it the disk
+ * space, is only released once the buffer is garbage collected. remove(item) decodes items until it finds a match
+ * and marks that record as removed in place. <br>
+ * All queue operations hold a single lock. Encoding, flushing and the decoding in poll() and peek() run outside it,
+ * remove(item) decodes while holding it.
+ */
+public class DurableQueue<E> implements Queue<E>, AutoCloseable {
+
+    static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    private static final int HEADER_SIZE = 9;
+    private static final int CRC_OFFSET = 4;
+    private static final int STATE_OFFSET = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final byte LIVE = 1;
+    private static final byte REMOVED = 2;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String OFFSET_FILE = "read-offset.dat";
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // no jdk.unsupported module, mappings are released by the garbage collector
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Function<E, byte[]> encoder;
+    private final Function<byte[], E> decoder;
+    private final Object lock;
+    private final Object forceLock;
+    private final MappedByteBuffer offset;
+    // guarded by lock
+    private final TreeMap<Long, MappedByteBuffer> segments;
+    private final TreeSet<Long> dirtySegments;
+    private long readSegment;
+    private int readPosition;
+    private long writeSegment;
+    private int writePosition;
+    private long changes;
+    // true while force() flushes buffers outside the lock, reclaimed segments are unmapped once it is done
+    private boolean forcing;
+    private final ArrayList<MappedByteBuffer> unmapPending;
+    // guarded by forceLock
+    private long forcedChanges;
+    private volatile int size;
+
+    DurableQueue(Path directory, Function<E, byte[]> encoder, Function<byte[], E> decoder) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, encoder, decoder);
+    }
+
+    DurableQueue(Path directory, int segmentSize, Function<E, byte[]> encoder, Function<byte[], E> decoder)
+            throws IOException {
+        if (segmentSize < HEADER_SIZE + Integer.BYTES) {
+            throw new IllegalArgumentException("segmentSize is too small");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.encoder = Objects.requireNonNull(encoder);
+        this.decoder = Objects.requireNonNull(decoder);
+        this.lock = new Object();
+        this.forceLock = new Object();
+        this.segments = new TreeMap<>();
+        this.dirtySegments = new TreeSet<>();
+        this.unmapPending = new ArrayList<>();
+        Files.createDirectories(directory);
+        offset = map(directory.resolve(OFFSET_FILE), Long.BYTES + Integer.BYTES);
+        recover();
+    }
+
+    @Override
+    public void add(E item) {
+        var payload = encoder.apply(item);
+        int recordLength = HEADER_SIZE + payload.length;
+        if (recordLength > segmentSize) {
+            throw new IllegalArgumentException("Encoded item does not fit into a segment");
+        }
+        var crc = new CRC32();
+        crc.update(payload);
+        synchronized (lock) {
+            if (writePosition + recordLength > segmentSize) {
+                if (writePosition + Integer.BYTES <= segmentSize) {
+                    segments.get(writeSegment).putInt(writePosition, END_OF_SEGMENT);
+                }
+                dirtySegments.add(writeSegment);
+                writeSegment++;
+                writePosition = 0;
+                segments.put(writeSegment, mapSegment(writeSegment));
+            }
+            var segment = segments.get(writeSegment);
+            var slice = segment.duplicate();
+            slice.position(writePosition + HEADER_SIZE);
+            slice.put(payload);
+            segment.putInt(writePosition + CRC_OFFSET, (int) crc.getValue());
+            segment.put(writePosition + STATE_OFFSET, LIVE);
+            // written last, this is what makes the record visible to recovery
+            segment.putInt(writePosition, recordLength);
+            writePosition += recordLength;
+            dirtySegments.add(writeSegment);
+            changes++;
+            size++;
+        }
+    }
+
+    @Override
+    public E poll() throws NoSuchElementException {
+        byte[] payload;
+        synchronized (lock) {
+            if (!skipToLive()) {
+                throw new NoSuchElementException();
+            }
+            payload = readPayload(segments.get(readSegment), readPosition);
+            readPosition += HEADER_SIZE + payload.length;
+            writeOffset();
+            size--;
+        }
+        return decoder.apply(payload);
+    }
+
+    @Override
+    public E peek() throws NoSuchElementException {
+        byte[] payload;
+        synchronized (lock) {
+            if (!skipToLive()) {
+                throw new NoSuchElementException();
+            }
+            payload = readPayload(segments.get(readSegment), readPosition);
+        }
+        return decoder.apply(payload);
+    }
+
+    @Override
+    public boolean remove(E item) {
+        synchronized (lock) {
+            long segmentIndex = readSegment;
+            int position = readPosition;
+            while (segmentIndex < writeSegment || (segmentIndex == writeSegment && position < writePosition)) {
+                var segment = segments.get(segmentIndex);
+                if (segmentIndex < writeSegment && endOfSegment(segment, position)) {
+                    segmentIndex++;
+                    position = 0;
+                    continue;
+                }
+                int recordLength = segment.getInt(position);
+                if (segment.get(position + STATE_OFFSET) == LIVE
+                        && Objects.equals(decoder.apply(readPayload(segment, position)), item)) {
+                    segment.put(position + STATE_OFFSET, REMOVED);
+                    dirtySegments.add(segmentIndex);
+                    changes++;
+                    size--;
+                    return true;
+                }
+                position += recordLength;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Flushes every change made before the call to disk, including the read offset. Returns right away if another
+     * thread's force() has already flushed them.
+     */
+    public void force() {
+        long target;
+        synchronized (lock) {
+            target = changes;
+        }
+        synchronized (forceLock) {
+            if (forcedChanges >= target) {
+                return;
+            }
+            long flushing;
+            var buffers = new ArrayList<MappedByteBuffer>();
+            synchronized (lock) {
+                flushing = changes;
+                for (var index : dirtySegments) {
+                    var segment = segments.get(index);
+                    if (segment != null) {
+                        buffers.add(segment);
+                    }
+                }
+                dirtySegments.clear();
+                forcing = true;
+            }
+            try {
+                for (var buffer : buffers) {
+                    buffer.force();
+                }
+                offset.force();
+            } finally {
+                synchronized (lock) {
+                    forcing = false;
+                    for (var buffer : unmapPending) {
+                        unmap(buffer);
+                    }
+                    unmapPending.clear();
+                }
+            }
+            forcedChanges = flushing;
+        }
+    }
+
+    /**
+     * Forces outstanding changes. The files stay in the directory, a new DurableQueue on it continues where this one
+     * stopped.
+     */
+    @Override
+    public void close() {
+        force();
+    }
+
+    int segmentCount() {
+        synchronized (lock) {
+            return segments.size();
+        }
+    }
+
+    // Called with lock held. Moves the read offset past removed records and finished segments.
+    private boolean skipToLive() {
+        while (readSegment < writeSegment || readPosition < writePosition) {
+            var segment = segments.get(readSegment);
+            if (readSegment < writeSegment && endOfSegment(segment, readPosition)) {
+                reclaim(readSegment);
+                readSegment++;
+                readPosition = 0;
+                writeOffset();
+                continue;
+            }
+            if (segment.get(readPosition + STATE_OFFSET) == LIVE) {
+                return true;
+            }
+            readPosition += segment.getInt(readPosition);
+            writeOffset();
+        }
+        return false;
+    }
+
+    private boolean endOfSegment(MappedByteBuffer segment, int position) {
+        return position + Integer.BYTES > segmentSize || segment.getInt(position) == END_OF_SEGMENT;
+    }
+
+    private byte[] readPayload(MappedByteBuffer segment, int position) {
+        var payload = new byte[segment.getInt(position) - HEADER_SIZE];
+        var slice = segment.duplicate();
+        slice.position(position + HEADER_SIZE);
+        slice.get(payload);
+        return payload;
+    }
+
+    // Called with lock held.
+    private void writeOffset() {
+        offset.putLong(0, readSegment);
+        offset.putInt(Long.BYTES, readPosition);
+        changes++;
+    }
+
+    // Called with lock held. The offset is moved past the segment before its file is deleted, so a crash in between
+    // leaves at most an unused file behind, which recover() deletes.
+    private void reclaim(long index) {
+        var segment = segments.remove(index);
+        dirtySegments.remove(index);
+        if (forcing) {
+            // force() may be flushing this buffer right now
+            unmapPending.add(segment);
+        } else {
+            unmap(segment);
+        }
+        try {
+            Files.deleteIfExists(segmentPath(index));
+        } catch (IOException e) {
+            // some platforms refuse to delete a mapped file, recover() retries on the next open
+        }
+    }
+
+    private void recover() throws IOException {
+        readSegment = offset.getLong(0);
+        readPosition = offset.getInt(Long.BYTES);
+        var existing = listSegments();
+        for (var index : existing.headSet(readSegment)) {
+            Files.deleteIfExists(segmentPath(index));
+        }
+        var remaining = existing.tailSet(readSegment);
+        if (!remaining.isEmpty() && remaining.first() > readSegment) {
+            // the read segment was fully consumed and deleted, but the new offset never reached the disk
+            readSegment = remaining.first();
+            readPosition = 0;
+        }
+        for (var index : remaining) {
+            segments.put(index, mapSegment(index));
+        }
+        if (segments.isEmpty()) {
+            segments.put(readSegment, mapSegment(readSegment));
+        }
+        int count = 0;
+        long index = readSegment;
+        int position = readPosition;
+        while (true) {
+            var segment = segments.get(index);
+            if (endOfSegment(segment, position)) {
+                if (!segments.containsKey(index + 1)) {
+                    segments.put(index + 1, mapSegment(index + 1));
+                }
+                index++;
+                position = 0;
+                continue;
+            }
+            int recordLength = segment.getInt(position);
+            if (recordLength == 0 || !isValid(segment, position, recordLength)) {
+                break;
+            }
+            if (segment.get(position + STATE_OFFSET) == LIVE) {
+                count++;
+            }
+            position += recordLength;
+        }
+        writeSegment = index;
+        writePosition = position;
+        // A torn write, or a page lost in a machine crash while later pages were flushed, can leave valid old records
+        // behind the end of the data. Wipe them so they cannot reappear once new records are written over the gap.
+        if (wipe(segments.get(writeSegment), writePosition)) {
+            dirtySegments.add(writeSegment);
+        }
+        // segments after a torn record never became visible
+        for (var later : new ArrayList<>(segments.tailMap(writeSegment, false).keySet())) {
+            unmap(segments.remove(later));
+            Files.deleteIfExists(segmentPath(later));
+        }
+        size = count;
+        writeOffset();
+    }
+
+    // Only writes where there is data, so the pages of a fresh segment tail are not dirtied for the next force().
+    private boolean wipe(MappedByteBuffer segment, int from) {
+        boolean wiped = false;
+        int position = from;
+        for (; position + Long.BYTES <= segmentSize; position += Long.BYTES) {
+            if (segment.getLong(position) != 0) {
+                segment.putLong(position, 0);
+                wiped = true;
+            }
+        }
+        for (; position < segmentSize; position++) {
+            if (segment.get(position) != 0) {
+                segment.put(position, (byte) 0);
+                wiped = true;
+            }
+        }
+        return wiped;
+    }
+
+    private boolean isValid(MappedByteBuffer segment, int position, int recordLength) {
+        if (recordLength < HEADER_SIZE || position + recordLength > segmentSize) {
+            return false;
+        }
+        byte state = segment.get(position + STATE_OFFSET);
+        if (state != LIVE && state != REMOVED) {
+            return false;
+        }
+        var crc = new CRC32();
+        crc.update(readPayload(segment, position));
+        return (int) crc.getValue() == segment.getInt(position + CRC_OFFSET);
+    }
+
+    private TreeSet<Long> listSegments() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private MappedByteBuffer mapSegment(long index) {
+        try {
+            return map(segmentPath(index), segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // leave it to the garbage collector
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, int length) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.datastructures.queue;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free queue in the style of LCRQ/FAAArrayQueue: a linked list of array segments in which producers and
+ * consumers claim slot indices with getAndIncrement() instead of retrying a CAS on a shared head or tail. <br>
+ * A producer claims the next enqueue index of the tail segment and CASes its item into the slot. A consumer claims the
+ * next dequeue index of the head segment and swaps TAKEN into the slot. Two threads never compete for the same index,
+ * so under contention every claim makes progress. A CAS only fails when a consumer has overtaken a slow producer and
+ * spoiled the slot, and then the producer simply claims another index. head and tail move only once per
+ * SEGMENT_SIZE operations. <br>
+ * remove(item) swaps TAKEN into the item's slot, and consumers skip such slots. Null items are not allowed.
+ */
+public class FetchAndAddQueue<E> implements Queue<E> {
+
+    static final int SEGMENT_SIZE = 1024;
+    private static final Object TAKEN = new Object();
+
+    private final AtomicReference<Segment> head;
+    private final AtomicReference<Segment> tail;
+    private final LongAdder size;
+
+    FetchAndAddQueue() {
+        var segment = new Segment(null);
+        head = new AtomicReference<>(segment);
+        tail = new AtomicReference<>(segment);
+        size = new LongAdder();
+    }
+
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        while (true) {
+            var currTail = tail.get();
+            int index = currTail.enqueueIndex.getAndIncrement();
+            if (index < SEGMENT_SIZE) {
+                if (currTail.items.compareAndSet(index, null, item)) {
+                    break;
+                }
+                // a consumer got to the slot first and marked it TAKEN
+                continue;
+            }
+            if (currTail != tail.get()) {
+                continue;
+            }
+            var next = currTail.next.get();
+            if (next == null) {
+                var segment = new Segment(item);
+                if (currTail.next.compareAndSet(null, segment)) {
+                    tail.compareAndSet(currTail, segment);
+                    break;
+                }
+            } else {
+                // the tail segment is full and another producer already linked a new one, help it move tail
+                tail.compareAndSet(currTail, next);
+            }
+        }
+        size.increment();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() throws NoSuchElementException {
+        while (true) {
+            var currHead = head.get();
+            if (currHead.dequeueIndex.get() >= currHead.enqueueIndex.get() && currHead.next.get() == null) {
+                throw new NoSuchElementException();
+            }
+            int index = currHead.dequeueIndex.getAndIncrement();
+            if (index >= SEGMENT_SIZE) {
+                var next = currHead.next.get();
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                head.compareAndSet(currHead, next);
+                continue;
+            }
+            var item = currHead.items.getAndSet(index, TAKEN);
+            // null: the producer that claimed the slot has not written it yet and will retry elsewhere
+            // TAKEN: the item was removed with remove(item)
+            if (item != null && item != TAKEN) {
+                size.decrement();
+                return (E) item;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() throws NoSuchElementException {
+        var segment = head.get();
+        int index = Math.min(segment.dequeueIndex.get(), SEGMENT_SIZE);
+        while (segment != null) {
+            int end = Math.min(segment.enqueueIndex.get(), SEGMENT_SIZE);
+            for (; index < end; index++) {
+                var item = segment.items.get(index);
+                if (item != null && item != TAKEN) {
+                    return (E) item;
+                }
+            }
+            segment = segment.next.get();
+            index = 0;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean remove(E item) {
+        var segment = head.get();
+        int index = Math.min(segment.dequeueIndex.get(), SEGMENT_SIZE);
+        while (segment != null) {
+            int end = Math.min(segment.enqueueIndex.get(), SEGMENT_SIZE);
+            for (; index < end; index++) {
+                var curr = segment.items.get(index);
+                if (curr != null && curr != TAKEN && Objects.equals(curr, item)
+                        && segment.items.compareAndSet(index, curr, TAKEN)) {
+                    size.decrement();
+                    return true;
+                }
+            }
+            segment = segment.next.get();
+            index = 0;
+        }
+        return false;
+    }
+
+    /**
+     * Sum of completed adds minus completed polls and removes. It may briefly lag behind operations in flight.
+     */
+    @Override
+    public int size() {
+        return Math.max(size.intValue(), 0);
+    }
+
+    private static class Segment {
+        final AtomicReferenceArray<Object> items = new AtomicReferenceArray<>(SEGMENT_SIZE);
+        final AtomicInteger enqueueIndex;
+        final AtomicInteger dequeueIndex = new AtomicInteger(0);
+        final AtomicReference<Segment> next = new AtomicReference<>();
+
+        // A segment is created by the producer that found the previous one full, with its item already in slot 0.
+        Segment(Object first) {
+            if (first != null) {
+                items.lazySet(0, first);
+                enqueueIndex = new AtomicInteger(1);
+            } else {
+                enqueueIndex = new AtomicInteger(0);
+            }
+        }
+    }
+}
@@ -1,39 +1,110 @@
 package org.example.datastructures.queue;
 
+import java.util.Collection;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Two-lock queue: producers take tailLock, consumers take headLock. <br>
+ * With recycleNodes, nodes that leave the queue are reused by later adds instead of becoming garbage. A node is
+ * retired under headLock once head has moved past it. From then on no thread can reach it through the list:
+ * consumers only start from head, producers can only link after the current tail, and remove() holds both locks.
+ * Retired nodes go to the consuming thread's cache ("magazine"), and a producer takes nodes from its own magazine.
+ * Full magazines are handed between threads through a small shared depot, so a producer thread and a consumer thread
+ * also exchange nodes. The only references that can outlive a node are RemovalHandles, so every node carries a
+ * generation that is bumped on retirement, and a handle from an earlier generation cancels nothing. <br>
+ * Producers link nodes under tailLock and consumers read them under headLock, so the locks alone order nothing
+ * between the two. next is volatile: the write that links a node publishes its item and its own next, so a consumer
+ * never sees the freelist link a recycled node had before.
+ */
 public class FineLockQueue<E> implements Queue<E> {
 
+    private static final int MAGAZINE_SIZE = 64;
+    private static final int DEPOT_SIZE = 64;
+    // lazySet for links that no other thread can see yet, a later volatile write publishes them
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LNode, LNode> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(LNode.class, LNode.class, "next");
+
     private LNode<E> head;
     private LNode<E> tail;
     private final Lock headLock;
     private final Lock tailLock;
     private final AtomicInteger size;
+    // null unless nodes are recycled
+    private final ThreadLocal<Magazine<E>> magazines;
+    // full magazines, guarded by depot
+    private final Object[] depot;
+    private int depotCount;
+    // nodes retired during the current headLock critical section, guarded by headLock
+    private LNode<E> retired;
 
     FineLockQueue() {
+        this(false);
+    }
+
+    FineLockQueue(boolean recycleNodes) {
         var dummy = new LNode<E>(null, null);
         head = dummy;
         tail = dummy;
         headLock = new ReentrantLock();
         tailLock = new ReentrantLock();
         size = new AtomicInteger(0);
+        magazines = recycleNodes ? ThreadLocal.withInitial(Magazine::new) : null;
+        depot = recycleNodes ? new Object[DEPOT_SIZE] : null;
+        depotCount = 0;
     }
 
     @Override
     public void add(E item) {
-        var node = new LNode<>(item, null);
+        linkLast(newNode(item));
+    }
+
+    /**
+     * Adds item and returns a handle that removes it in O(1). cancel() only takes headLock to mark the node as
+     * removed, it does not scan the list or block producers. The node stays linked until poll() or peek() reaches it
+     * and skips it.
+     */
+    public RemovalHandle addWithHandle(E item) {
+        var node = newNode(item);
+        var handle = new NodeHandle(node, node.generation);
+        linkLast(node);
+        return handle;
+    }
+
+    /**
+     * Links the items into a chain of nodes before locking, then splices the whole chain in under a single tailLock
+     * acquisition and updates size once.
+     */
+    public void addAll(Collection<? extends E> items) {
+        LNode<E> first = null;
+        LNode<E> last = null;
+        int count = 0;
+        for (E item : items) {
+            var node = newNode(item);
+            if (last == null) {
+                first = node;
+            } else {
+                NEXT.lazySet(last, node);
+            }
+            last = node;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
         tailLock.lock();
         try {
-            tail.next = node;
-            tail = node;
+            tail.next = first;
+            tail = last;
         } finally {
             tailLock.unlock();
         }
-        size.incrementAndGet();
+        size.addAndGet(count);
     }
 
     @Override
@@ -41,30 +112,68 @@ public class FineLockQueue<E> implements Queue<E> {
         E retVal;
         headLock.lock();
         try {
-            if (head.next == null) {
+            var headNext = skipRemoved();
+            if (headNext == null) {
                 throw new NoSuchElementException();
             }
-            var headNext = head.next;
             retVal = headNext.item;
             headNext.item = null;
-            head = headNext;
+            headNext.removed = true;
+            advanceHead(headNext);
         } finally {
+            var chain = takeRetired();
             headLock.unlock();
+            release(chain);
         }
         size.decrementAndGet();
         return retVal;
     }
 
+    /**
+     * Removes up to maxItems items from the head into target, in FIFO order, under a single headLock acquisition.
+     *
+     * @return the number of items moved
+     */
+    public int drainTo(Collection<? super E> target, int maxItems) {
+        int count = 0;
+        headLock.lock();
+        try {
+            while (count < maxItems) {
+                var headNext = skipRemoved();
+                if (headNext == null) {
+                    break;
+                }
+                target.add(headNext.item);
+                headNext.item = null;
+                headNext.removed = true;
+                advanceHead(headNext);
+                count++;
+            }
+        } finally {
+            // target.add() may throw, the items moved before that are already unlinked
+            if (count > 0) {
+                size.addAndGet(-count);
+            }
+            var chain = takeRetired();
+            headLock.unlock();
+            release(chain);
+        }
+        return count;
+    }
+
     @Override
     public E peek() throws NoSuchElementException {
         headLock.lock();
         try {
-            if (head.next == null) {
+            var headNext = skipRemoved();
+            if (headNext == null) {
                 throw new NoSuchElementException();
             }
-            return head.next.item;
+            return headNext.item;
         } finally {
+            var chain = takeRetired();
             headLock.unlock();
+            release(chain);
         }
     }
 
@@ -77,14 +186,18 @@ public class FineLockQueue<E> implements Queue<E> {
             try {
                 var prev = findNode(item);
                 if (prev != null) {
-                    unlink(prev, prev.next);
+                    var node = prev.next;
+                    unlink(prev, node);
+                    retire(node);
                     removed = true;
                 }
             } finally {
                 tailLock.unlock();
             }
         } finally {
+            var chain = takeRetired();
             headLock.unlock();
+            release(chain);
         }
         if (removed) {
             size.decrementAndGet();
@@ -97,19 +210,134 @@ public class FineLockQueue<E> implements Queue<E> {
         return size.get();
     }
 
+    private void linkLast(LNode<E> node) {
+        tailLock.lock();
+        try {
+            tail.next = node;
+            tail = node;
+        } finally {
+            tailLock.unlock();
+        }
+        size.incrementAndGet();
+    }
+
     protected void unlink(LNode<E> prev, LNode<E> node) {
         prev.next = node.next;
         if (node == tail) {
             tail = prev;
         }
         node.item = null;
+        node.removed = true;
+    }
+
+    // Called with headLock held. Moves head past nodes cancelled through a handle and returns the first live node.
+    private LNode<E> skipRemoved() {
+        var headNext = head.next;
+        while (headNext != null && headNext.removed) {
+            advanceHead(headNext);
+            headNext = head.next;
+        }
+        return headNext;
+    }
+
+    // Called with headLock held.
+    private void advanceHead(LNode<E> newHead) {
+        var oldHead = head;
+        head = newHead;
+        retire(oldHead);
+    }
+
+    // Called with headLock held, once no thread can reach node through the list any more.
+    private void retire(LNode<E> node) {
+        if (magazines == null) {
+            return;
+        }
+        node.generation++;
+        node.item = null;
+        node.removed = false;
+        NEXT.lazySet(node, retired);
+        retired = node;
+    }
+
+    // Called with headLock held.
+    private LNode<E> takeRetired() {
+        var chain = retired;
+        retired = null;
+        return chain;
+    }
+
+    private LNode<E> newNode(E item) {
+        if (magazines == null) {
+            return new LNode<>(item, null);
+        }
+        var magazine = magazines.get();
+        if (magazine.top == null) {
+            magazine.top = takeFromDepot();
+            magazine.count = (magazine.top == null) ? 0 : MAGAZINE_SIZE;
+        }
+        var node = magazine.top;
+        if (node == null) {
+            return new LNode<>(item, null);
+        }
+        magazine.top = node.next;
+        magazine.count--;
+        NEXT.lazySet(node, null);
+        node.item = item;
+        return node;
+    }
+
+    // Moves a chain of retired nodes into this thread's magazine, handing full magazines to the depot.
+    private void release(LNode<E> chain) {
+        if (chain == null) {
+            return;
+        }
+        var magazine = magazines.get();
+        while (chain != null) {
+            var next = chain.next;
+            NEXT.lazySet(chain, magazine.top);
+            magazine.top = chain;
+            magazine.count++;
+            chain = next;
+            if (magazine.count == 2 * MAGAZINE_SIZE) {
+                var full = magazine.top;
+                var last = full;
+                for (int i = 1; i < MAGAZINE_SIZE; i++) {
+                    last = last.next;
+                }
+                magazine.top = last.next;
+                magazine.count -= MAGAZINE_SIZE;
+                NEXT.lazySet(last, null);
+                giveToDepot(full);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private LNode<E> takeFromDepot() {
+        synchronized (depot) {
+            if (depotCount == 0) {
+                return null;
+            }
+            var full = (LNode<E>) depot[--depotCount];
+            depot[depotCount] = null;
+            return full;
+        }
+    }
+
+    // A full depot drops the magazine, its nodes simply become garbage.
+    private void giveToDepot(LNode<E> full) {
+        synchronized (depot) {
+            if (depotCount < DEPOT_SIZE) {
+                depot[depotCount++] = full;
+            }
+        }
     }
 
     protected LNode<E> findNode(E item) {
         var prev = head;
         var it = head.next;
         while (it != null) {
-            if (Objects.equals(it.item, item)) {
+            if (!it.removed && Objects.equals(it.item, item)) {
                 return prev;
             }
             prev = it;
@@ -118,9 +346,43 @@ public class FineLockQueue<E> implements Queue<E> {
         return null;
     }
 
+    private class NodeHandle implements RemovalHandle {
+        private final LNode<E> node;
+        private final int generation;
+
+        private NodeHandle(LNode<E> node, int generation) {
+            this.node = node;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean cancel() {
+            headLock.lock();
+            try {
+                // a different generation means the node was retired and reused for another item
+                if (node.generation != generation || node.removed) {
+                    return false;
+                }
+                node.item = null;
+                node.removed = true;
+            } finally {
+                headLock.unlock();
+            }
+            size.decrementAndGet();
+            return true;
+        }
+    }
+
+    private static class Magazine<E> {
+        LNode<E> top;
+        int count;
+    }
+
     private static class LNode<E> {
         E item;
-        LNode<E> next;
+        volatile LNode<E> next;
+        boolean removed;
+        int generation;
 
         private LNode(E item, LNode<E> next) {
             this.item = item;
@@ -0,0 +1,79 @@
+package org.example.datastructures.queue;
+
+import org.example.datastructures.FlatCombiner;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+
+/**
+ * Queue on a plain ArrayDeque behind a FlatCombiner. Under contention one thread runs the adds and polls that the
+ * other threads have published, so the lock and the array stay with one core instead of bouncing between them as
+ * they do with CoarseLockQueue. <br>
+ * Null items are not allowed.
+ */
+public class FlatCombiningQueue<E> implements Queue<E> {
+
+    private static final int ADD = 0;
+    private static final int POLL = 1;
+    private static final int PEEK = 2;
+    private static final int REMOVE = 3;
+
+    private final FlatCombiner<ArrayDeque<E>> combiner;
+    // only written by the combiner
+    private volatile int size;
+
+    FlatCombiningQueue() {
+        combiner = new FlatCombiner<>(new ArrayDeque<>(), this::apply);
+        size = 0;
+    }
+
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        combiner.execute(ADD, item);
+    }
+
+    @Override
+    public E poll() throws NoSuchElementException {
+        return combiner.execute(POLL, null);
+    }
+
+    @Override
+    public E peek() throws NoSuchElementException {
+        return combiner.execute(PEEK, null);
+    }
+
+    @Override
+    public boolean remove(E item) {
+        return combiner.<Boolean>execute(REMOVE, item);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object apply(ArrayDeque<E> queue, int opcode, Object argument) {
+        switch (opcode) {
+            case ADD:
+                queue.addLast((E) argument);
+                size = queue.size();
+                return null;
+            case POLL:
+                var item = queue.removeFirst();
+                size = queue.size();
+                return item;
+            case PEEK:
+                return queue.getFirst();
+            case REMOVE:
+                boolean removed = queue.removeFirstOccurrence(argument);
+                size = queue.size();
+                return removed;
+            default:
+                throw new IllegalArgumentException("Unknown opcode " + opcode);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.datastructures.queue;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Lock-free queue by Michael and Scott. head always points to a dummy node whose next is the first item. <br>
+ * A thread that finds tail lagging behind the last node first swings tail forward on behalf of the thread that linked
+ * that node (helping), so no thread ever waits for another. <br>
+ * A dequeued node is made to point to itself with a lazySet. Without that, a dead node that was promoted to an old
+ * GC generation would keep every node after it reachable ("GC nepotism"). Traversals that run into a self-linked node
+ * restart from head. <br>
+ * remove() clears the item of its node (logical deletion). poll() skips such nodes when it reaches them.
+ */
+public class MichaelScottQueue<E> implements Queue<E> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Object> ITEM =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "item");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    private final AtomicReference<Node<E>> head;
+    private final AtomicReference<Node<E>> tail;
+    private final AtomicInteger size;
+
+    MichaelScottQueue() {
+        var dummy = new Node<E>(null);
+        head = new AtomicReference<>(dummy);
+        tail = new AtomicReference<>(dummy);
+        size = new AtomicInteger(0);
+    }
+
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        final var node = new Node<>(item);
+        while (true) {
+            var currTail = tail.get();
+            var next = currTail.next;
+            if (currTail != tail.get()) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(currTail, null, node)) {
+                    tail.compareAndSet(currTail, node);
+                    break;
+                }
+            } else {
+                // tail is lagging behind, help the other enqueuer before retrying
+                tail.compareAndSet(currTail, next);
+            }
+        }
+        size.incrementAndGet();
+    }
+
+    @Override
+    public E poll() throws NoSuchElementException {
+        while (true) {
+            var currHead = head.get();
+            var currTail = tail.get();
+            var first = currHead.next;
+            if (currHead != head.get()) {
+                continue;
+            }
+            if (currHead == currTail) {
+                if (first == null) {
+                    throw new NoSuchElementException();
+                }
+                tail.compareAndSet(currTail, first);
+                continue;
+            }
+            if (head.compareAndSet(currHead, first)) {
+                NEXT.lazySet(currHead, currHead);
+                var item = first.item;
+                // first is the new dummy, claim its item unless remove() already did
+                if (item != null && ITEM.compareAndSet(first, item, null)) {
+                    size.decrementAndGet();
+                    return item;
+                }
+            }
+        }
+    }
+
+    @Override
+    public E peek() throws NoSuchElementException {
+        restart:
+        while (true) {
+            var node = head.get().next;
+            while (node != null) {
+                var item = node.item;
+                if (item != null) {
+                    return item;
+                }
+                var next = node.next;
+                if (next == node) {
+                    continue restart;
+                }
+                node = next;
+            }
+            throw new NoSuchElementException();
+        }
+    }
+
+    @Override
+    public boolean remove(E item) {
+        restart:
+        while (true) {
+            var node = head.get().next;
+            while (node != null) {
+                var curr = node.item;
+                if (curr != null && Objects.equals(curr, item) && ITEM.compareAndSet(node, curr, null)) {
+                    size.decrementAndGet();
+                    return true;
+                }
+                var next = node.next;
+                if (next == node) {
+                    continue restart;
+                }
+                node = next;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    private static class Node<E> {
+        volatile E item;
+        volatile Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
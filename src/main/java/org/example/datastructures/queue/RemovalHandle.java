@@ -0,0 +1,11 @@
+package org.example.datastructures.queue;
+
+public interface RemovalHandle {
+
+    /**
+     * Removes the item this handle was returned for, without searching the queue for it.
+     *
+     * @return false if the item has already been polled or removed
+     */
+    boolean cancel();
+}
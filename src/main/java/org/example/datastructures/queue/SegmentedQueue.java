@@ -0,0 +1,183 @@
+package org.example.datastructures.queue;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Unrolled linked queue: a list of fixed-size array segments instead of one node per item, with FineLockQueue's
+ * separate locks for the producer (tail) and consumer (head) ends. add() writes into the next free slot of the tail
+ * segment and only links a new segment every SEGMENT_SIZE items. Drained segments go back to a small pool and are
+ * reused by producers, so a queue that stays within a few segments allocates nothing per item. <br>
+ * remove(item) leaves a tombstone in the slot, which poll() and peek() skip. <br>
+ * Null items are not allowed.
+ */
+public class SegmentedQueue<E> implements Queue<E> {
+
+    static final int SEGMENT_SIZE = 1024;
+    private static final int POOL_SIZE = 4;
+    private static final Object REMOVED = new Object();
+
+    private final Lock headLock;
+    private final Lock tailLock;
+    private final AtomicInteger size;
+    private final AtomicReferenceArray<Segment> pool;
+    // guarded by headLock
+    private Segment headSegment;
+    private int takeIndex;
+    // guarded by tailLock
+    private Segment tailSegment;
+    private int putIndex;
+
+    SegmentedQueue() {
+        headLock = new ReentrantLock();
+        tailLock = new ReentrantLock();
+        size = new AtomicInteger(0);
+        pool = new AtomicReferenceArray<>(POOL_SIZE);
+        headSegment = new Segment();
+        tailSegment = headSegment;
+        takeIndex = 0;
+        putIndex = 0;
+    }
+
+    @Override
+    public void add(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        tailLock.lock();
+        try {
+            if (putIndex == SEGMENT_SIZE) {
+                var segment = acquireSegment();
+                tailSegment.next = segment;
+                tailSegment = segment;
+                putIndex = 0;
+            }
+            // release write, a consumer can read the slot before size counts this item
+            tailSegment.items.lazySet(putIndex++, item);
+        } finally {
+            tailLock.unlock();
+        }
+        // published after the slot is written, a consumer that sees size > 0 also sees the item
+        size.incrementAndGet();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() throws NoSuchElementException {
+        E retVal;
+        headLock.lock();
+        try {
+            if (size.get() <= 0 || !skipToLive()) {
+                throw new NoSuchElementException();
+            }
+            retVal = (E) headSegment.items.get(takeIndex);
+            headSegment.items.lazySet(takeIndex++, null);
+            // still under headLock, so the next consumer's size check no longer counts this item
+            size.decrementAndGet();
+        } finally {
+            headLock.unlock();
+        }
+        return retVal;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() throws NoSuchElementException {
+        headLock.lock();
+        try {
+            if (size.get() <= 0 || !skipToLive()) {
+                throw new NoSuchElementException();
+            }
+            return (E) headSegment.items.get(takeIndex);
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(E item) {
+        headLock.lock();
+        try {
+            tailLock.lock();
+            try {
+                var segment = headSegment;
+                int index = takeIndex;
+                while (segment != null) {
+                    int end = (segment == tailSegment) ? putIndex : SEGMENT_SIZE;
+                    for (; index < end; index++) {
+                        var curr = segment.items.get(index);
+                        if (curr != REMOVED && Objects.equals(curr, item)) {
+                            segment.items.lazySet(index, REMOVED);
+                            size.decrementAndGet();
+                            return true;
+                        }
+                    }
+                    segment = segment.next;
+                    index = 0;
+                }
+                return false;
+            } finally {
+                tailLock.unlock();
+            }
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return Math.max(size.get(), 0);
+    }
+
+    // Called with headLock held and size > 0. The slot at takeIndex can still belong to a producer whose add() has not
+    // returned while a later add() is already counted in size. Stop at such an unwritten slot, and never move past the
+    // tail segment. poll() and peek() then report the queue as empty until that add() completes.
+    private boolean skipToLive() {
+        while (true) {
+            if (takeIndex == SEGMENT_SIZE) {
+                var drained = headSegment;
+                if (drained.next == null) {
+                    // the drained segment is still the tail, releasing it would hand it to a producer twice
+                    return false;
+                }
+                headSegment = drained.next;
+                takeIndex = 0;
+                releaseSegment(drained);
+            } else if (headSegment.items.get(takeIndex) == REMOVED) {
+                headSegment.items.lazySet(takeIndex++, null);
+            } else {
+                // null: the producer that owns this slot has not finished its add yet
+                return headSegment.items.get(takeIndex) != null;
+            }
+        }
+    }
+
+    private Segment acquireSegment() {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            var segment = pool.get(i);
+            if (segment != null && pool.compareAndSet(i, segment, null)) {
+                return segment;
+            }
+        }
+        return new Segment();
+    }
+
+    // Every slot of a drained segment has already been nulled, only the link has to be cleared.
+    private void releaseSegment(Segment segment) {
+        segment.next = null;
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (pool.get(i) == null && pool.compareAndSet(i, null, segment)) {
+                return;
+            }
+        }
+    }
+
+    private static class Segment {
+        final AtomicReferenceArray<Object> items = new AtomicReferenceArray<>(SEGMENT_SIZE);
+        Segment next;
+    }
+}
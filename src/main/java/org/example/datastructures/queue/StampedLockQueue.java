@@ -0,0 +1,128 @@
+package org.example.datastructures.queue;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * CoarseLockQueue with a StampedLock instead of a ReentrantReadWriteLock. peek() first reads the head under an
+ * optimistic stamp, which writes nothing to shared memory, and only takes the read lock if a writer got in between.
+ * Readers that poll the queue for monitoring therefore do not slow down producers and consumers by bouncing the
+ * lock's cache line. <br>
+ * Writes take the write lock as in CoarseLockQueue. StampedLock is not reentrant.
+ */
+public class StampedLockQueue<E> implements Queue<E> {
+
+    private final StampedLock lock;
+    private LNode<E> head;
+    private LNode<E> tail;
+    private volatile int size;
+
+    StampedLockQueue() {
+        this.lock = new StampedLock();
+        this.size = 0;
+    }
+
+    @Override
+    public void add(E item) {
+        long stamp = lock.writeLock();
+        try {
+            var node = new LNode<>(item, tail, null);
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E poll() throws NoSuchElementException {
+        long stamp = lock.writeLock();
+        try {
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            var retVal = head.item;
+            unlinkNode(head);
+            size--;
+            return retVal;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E peek() throws NoSuchElementException {
+        long stamp = lock.tryOptimisticRead();
+        // Only the head reference is read racily. item is final, so a node seen here is always fully constructed.
+        var first = head;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                first = head;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (first == null) {
+            throw new NoSuchElementException();
+        }
+        return first.item;
+    }
+
+    @Override
+    public boolean remove(E item) {
+        long stamp = lock.writeLock();
+        try {
+            for (var it = head; it != null; it = it.next) {
+                if (Objects.equals(it.item, item)) {
+                    unlinkNode(it);
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void unlinkNode(LNode<E> node) {
+        var prev = node.prev;
+        var next = node.next;
+        if (prev != null) {
+            prev.next = next;
+        } else {
+            head = next;
+        }
+        if (next != null) {
+            next.prev = prev;
+        } else {
+            tail = prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static class LNode<E> {
+        final E item;
+        LNode<E> prev;
+        LNode<E> next;
+
+        private LNode(E item, LNode<E> prev, LNode<E> next) {
+            this.item = item;
+            this.prev = prev;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.datastructures.stack;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TrieberStack with an elimination array (Hendler, Shavit, Yerushalmi). A thread whose head CAS fails does not retry
+ * right away. It visits a random slot of the elimination array and waits there briefly for an opposite operation: a
+ * push hands its item directly to a pop, and both return without touching head. A push followed by a pop leaves the
+ * stack unchanged, so the pair can be linearized at the moment they meet. If no partner shows up, the thread goes back
+ * to the head CAS. <br>
+ * Each thread keeps its own range of slots to pick from. The range widens after an exchange fails because another
+ * thread held the slot, narrows after a thread waited without a partner and stays as it is after an exchange, so
+ * threads spread out under heavy contention and meet more often when there are only a few of them. <br>
+ * pop() on an empty stack throws NoSuchElementException, like TrieberStack, instead of waiting for a push.
+ */
+public class EliminationBackoffStack<E> implements Stack<E> {
+
+    private static final int SPINS = 64;
+
+    private final TrieberStack<E> stack;
+    private final AtomicReferenceArray<Offer> slots;
+    private final ThreadLocal<int[]> ranges;
+    private final LongAdder eliminations;
+
+    EliminationBackoffStack() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    EliminationBackoffStack(int width) {
+        if (width < 1) {
+            throw new IllegalArgumentException("width must be greater than 0");
+        }
+        stack = new TrieberStack<>();
+        slots = new AtomicReferenceArray<>(width);
+        ranges = ThreadLocal.withInitial(() -> new int[] {1});
+        eliminations = new LongAdder();
+    }
+
+    @Override
+    public void push(E item) {
+        final var node = new TrieberStack.LNode<>(item, null);
+        while (!stack.tryPush(node)) {
+            if (eliminate(true, item) != null) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() throws NoSuchElementException {
+        while (true) {
+            var popped = stack.tryPop();
+            if (popped != null) {
+                return popped.item;
+            }
+            var offer = eliminate(false, null);
+            if (offer != null) {
+                return (E) offer.item;
+            }
+        }
+    }
+
+    @Override
+    public E peek() throws NoSuchElementException {
+        return stack.peek();
+    }
+
+    @Override
+    public int size() {
+        return stack.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return stack.isEmpty();
+    }
+
+    /**
+     * Tries to meet an opposite operation in the elimination array.
+     *
+     * @return for a pop, the push offer that was matched, for a push any non-null value, or null if no partner was
+     *         found
+     */
+    Offer eliminate(boolean push, Object item) {
+        var range = ranges.get();
+        int index = ThreadLocalRandom.current().nextInt(range[0]);
+        var waiting = slots.get(index);
+        if (waiting == null) {
+            var offer = new Offer(push, item);
+            if (!slots.compareAndSet(index, null, offer)) {
+                widen(range);
+                return null;
+            }
+            for (int i = 0; i < SPINS; i++) {
+                if (offer.partner != null) {
+                    break;
+                }
+                Thread.onSpinWait();
+            }
+            if (offer.partner == null && slots.compareAndSet(index, offer, null)) {
+                narrow(range);
+                return null;
+            }
+            // a partner took the offer out of the slot, it sets partner right after
+            while (offer.partner == null) {
+                Thread.onSpinWait();
+            }
+            // a successful exchange leaves the range as it is
+            return push ? offer : offer.partner;
+        }
+        if (waiting.push != push && slots.compareAndSet(index, waiting, null)) {
+            // volatile write, a waiting pop reads the item from it, a waiting push only needs it to be non-null
+            waiting.partner = push ? new Offer(true, item) : waiting;
+            eliminations.increment();
+            return waiting;
+        }
+        // a thread with the same operation is waiting, or someone else matched it first
+        widen(range);
+        return null;
+    }
+
+    /**
+     * @return the number of push-pop pairs that met in the elimination array
+     */
+    long eliminationCount() {
+        return eliminations.sum();
+    }
+
+    /**
+     * @return the number of slots the calling thread currently picks from
+     */
+    int range() {
+        return ranges.get()[0];
+    }
+
+    private void widen(int[] range) {
+        range[0] = Math.min(range[0] + 1, slots.length());
+    }
+
+    private void narrow(int[] range) {
+        range[0] = Math.max(range[0] - 1, 1);
+    }
+
+    static class Offer {
+        final boolean push;
+        final Object item;
+        volatile Offer partner;
+
+        Offer(boolean push, Object item) {
+            this.push = push;
+            this.item = item;
+        }
+    }
+}
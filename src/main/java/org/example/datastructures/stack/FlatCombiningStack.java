@@ -0,0 +1,73 @@
+package org.example.datastructures.stack;
+
+import org.example.datastructures.FlatCombiner;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+
+/**
+ * Stack on a plain ArrayDeque behind a FlatCombiner. Under contention one thread runs the pushes and pops that the
+ * other threads have published, so the lock and the array stay with one core instead of bouncing between them. <br>
+ * Null items are not allowed.
+ */
+public class FlatCombiningStack<E> implements Stack<E> {
+
+    private static final int PUSH = 0;
+    private static final int POP = 1;
+    private static final int PEEK = 2;
+
+    private final FlatCombiner<ArrayDeque<E>> combiner;
+    // only written by the combiner
+    private volatile int size;
+
+    FlatCombiningStack() {
+        combiner = new FlatCombiner<>(new ArrayDeque<>(), this::apply);
+        size = 0;
+    }
+
+    @Override
+    public void push(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        combiner.execute(PUSH, item);
+    }
+
+    @Override
+    public E pop() throws NoSuchElementException {
+        return combiner.execute(POP, null);
+    }
+
+    @Override
+    public E peek() throws NoSuchElementException {
+        return combiner.execute(PEEK, null);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (size <= 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object apply(ArrayDeque<E> stack, int opcode, Object argument) {
+        switch (opcode) {
+            case PUSH:
+                stack.addLast((E) argument);
+                size = stack.size();
+                return null;
+            case POP:
+                var item = stack.removeLast();
+                size = stack.size();
+                return item;
+            case PEEK:
+                return stack.getLast();
+            default:
+                throw new IllegalArgumentException("Unknown opcode " + opcode);
+        }
+    }
+}
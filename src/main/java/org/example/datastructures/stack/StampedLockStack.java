@@ -0,0 +1,90 @@
+package org.example.datastructures.stack;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * SafeStack with a StampedLock instead of a ReentrantReadWriteLock. peek() first reads the top under an optimistic
+ * stamp, which writes nothing to shared memory, and only takes the read lock if a writer got in between. <br>
+ * The items are kept in a plain array rather than an ArrayDeque: an optimistic read may see the array and the count
+ * mid-update, so it copies both into locals and checks the index before using it. A stale result is thrown away when
+ * validation fails.
+ */
+public class StampedLockStack<E> implements Stack<E> {
+
+    private final StampedLock lock;
+    private Object[] items;
+    private int count;
+    private volatile int size;
+
+    StampedLockStack() {
+        lock = new StampedLock();
+        items = new Object[16];
+        count = 0;
+        size = 0;
+    }
+
+    @Override
+    public void push(E item) {
+        long stamp = lock.writeLock();
+        try {
+            if (count == items.length) {
+                items = Arrays.copyOf(items, count << 1);
+            }
+            items[count++] = item;
+            size = count;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() throws NoSuchElementException {
+        long stamp = lock.writeLock();
+        try {
+            if (count == 0) {
+                throw new NoSuchElementException();
+            }
+            var item = (E) items[--count];
+            items[count] = null;
+            size = count;
+            return item;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() throws NoSuchElementException {
+        long stamp = lock.tryOptimisticRead();
+        var array = items;
+        int top = count - 1;
+        Object item = (top >= 0 && top < array.length) ? array[top] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                top = count - 1;
+                item = (top >= 0) ? items[top] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (top < 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) item;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (size <= 0);
+    }
+}
@@ -6,8 +6,8 @@ import java.util.concurrent.atomic.AtomicReference;
 
 public class TrieberStack<E> implements Stack<E> {
 
-    private static class LNode<E> {
-        private final E item;
+    static class LNode<E> {
+        final E item;
         private LNode<E> next;
 
         LNode(E item, LNode<E> next) {
@@ -27,23 +27,49 @@ public class TrieberStack<E> implements Stack<E> {
     @Override
     public void push(E item) {
         final var toSet = new LNode<>(item, null);
-        do {
-            toSet.next = head.get();
-        } while (!head.compareAndSet(toSet.next, toSet));
-        size.incrementAndGet();
+        while (!tryPush(toSet)) {
+            // another thread changed head, retry
+        }
     }
 
     @Override
     public E pop() throws NoSuchElementException {
-        LNode<E> currHead = null;
+        LNode<E> popped;
         do {
-            currHead = head.get();
-            if (currHead == null) {
-                throw new NoSuchElementException();
-            }
-        } while (!head.compareAndSet(currHead, currHead.next));
-        size.decrementAndGet();
-        return currHead.item;
+            popped = tryPop();
+        } while (popped == null);
+        return popped.item;
+    }
+
+    /**
+     * Makes a single attempt to push node.
+     *
+     * @return false if another thread changed head in the meantime
+     */
+    boolean tryPush(LNode<E> node) {
+        node.next = head.get();
+        if (head.compareAndSet(node.next, node)) {
+            size.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Makes a single attempt to pop.
+     *
+     * @return the popped node, or null if another thread changed head in the meantime
+     */
+    LNode<E> tryPop() throws NoSuchElementException {
+        var currHead = head.get();
+        if (currHead == null) {
+            throw new NoSuchElementException();
+        }
+        if (head.compareAndSet(currHead, currHead.next)) {
+            size.decrementAndGet();
+            return currHead;
+        }
+        return null;
     }
 
     @Override
@@ -1,27 +1,41 @@
 package org.example.resourcepool;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class BlockingResourcePool<T> implements ResourcePool<T> {
 
+    private final int maxResources;
     private final Queue<T> resources;
     private final Semaphore semaphore;
     private final Supplier<T> resourceFactory;
     private final Predicate<T> resourceValidator;
+    private final LeakDetector leakDetector;
 
     BlockingResourcePool(int maxResources, Supplier<T> resourceFactory, Predicate<T> resourceValidator) {
+        this(maxResources, resourceFactory, resourceValidator, null);
+    }
+
+    BlockingResourcePool(int maxResources, Supplier<T> resourceFactory, Predicate<T> resourceValidator,
+                         LeakDetector leakDetector) {
+        this.maxResources = maxResources;
         this.resourceFactory = resourceFactory;
         this.resourceValidator = resourceValidator;
+        this.leakDetector = leakDetector;
         resources = new ConcurrentLinkedQueue<>();
         for (int i = 0; i < maxResources; i++) {
             resources.add(resourceFactory.get());
         }
-        semaphore = new Semaphore(maxResources);
+        // fair, so a thread waiting for many permits is not overtaken forever by single acquirers
+        semaphore = new Semaphore(maxResources, true);
     }
 
     @Override
@@ -38,8 +52,72 @@ public class BlockingResourcePool<T> implements ResourcePool<T> {
         return resources.poll();
     }
 
+    @Override
+    public List<T> acquire(int n) throws InterruptedException {
+        checkBatchSize(n);
+        semaphore.acquire(n);
+        return pollBatch(n);
+    }
+
+    @Override
+    public List<T> acquire(int n, long timeout, TimeUnit unit) throws InterruptedException {
+        checkBatchSize(n);
+        if (!semaphore.tryAcquire(n, timeout, unit)) {
+            return null;
+        }
+        return pollBatch(n);
+    }
+
     @Override
     public void release(T resource) throws InterruptedException {
+        giveBack(resource);
+    }
+
+    @Override
+    public void releaseAll(Collection<T> resources) throws InterruptedException {
+        try {
+            for (var resource : resources) {
+                this.resources.offer(resourceValidator.test(resource) ? resource : resourceFactory.get());
+            }
+        } finally {
+            semaphore.release(resources.size());
+        }
+    }
+
+    @Override
+    public Lease<T> lease() throws InterruptedException {
+        return newLease(acquire());
+    }
+
+    @Override
+    public Lease<T> lease(long timeout, TimeUnit unit) throws InterruptedException {
+        var resource = acquire(timeout, unit);
+        if (resource == null) {
+            return null;
+        }
+        return newLease(resource);
+    }
+
+    @Override
+    public int availableCount() {
+        return semaphore.availablePermits();
+    }
+
+    private void checkBatchSize(int n) {
+        if (n < 1 || n > maxResources) {
+            throw new IllegalArgumentException("n must be in range [1, " + maxResources + "]");
+        }
+    }
+
+    private List<T> pollBatch(int n) {
+        var batch = new ArrayList<T>(n);
+        for (int i = 0; i < n; i++) {
+            batch.add(resources.poll());
+        }
+        return batch;
+    }
+
+    private void giveBack(T resource) {
         try {
             if (!resourceValidator.test(resource)) {
                 resource = resourceFactory.get();
@@ -50,8 +128,46 @@ public class BlockingResourcePool<T> implements ResourcePool<T> {
         }
     }
 
-    @Override
-    public int availableCount() {
-        return semaphore.availablePermits();
+    private Lease<T> newLease(T resource) {
+        var lease = new PooledLease<>(this, resource);
+        if (leakDetector != null && leakDetector.shouldSample()) {
+            lease.trace = leakDetector.track(lease, resource, this::giveBack);
+        }
+        return lease;
+    }
+
+    private static class PooledLease<T> implements Lease<T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<PooledLease> CLOSED =
+                AtomicIntegerFieldUpdater.newUpdater(PooledLease.class, "closed");
+
+        private final BlockingResourcePool<T> pool;
+        private final T resource;
+        private LeakDetector.Trace trace;
+        private volatile int closed;
+
+        private PooledLease(BlockingResourcePool<T> pool, T resource) {
+            this.pool = pool;
+            this.resource = resource;
+        }
+
+        @Override
+        public T get() {
+            if (closed != 0) {
+                throw new IllegalStateException("Lease is already closed");
+            }
+            return resource;
+        }
+
+        @Override
+        public void close() {
+            if (!CLOSED.compareAndSet(this, 0, 1)) {
+                return;
+            }
+            if (trace == null || trace.release()) {
+                pool.giveBack(resource);
+            }
+        }
     }
 }
@@ -0,0 +1,143 @@
+package org.example.resourcepool;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Samples one out of every {@code sampleInterval} leases. A sampled lease records where it was acquired, is reported
+ * once it has been held longer than the hold threshold, and is reported and handed back to the pool if it becomes
+ * unreachable without being closed. Leases that are not sampled are not tracked at all. <br>
+ * All detectors share one cleaner thread and one timer thread, both daemons, so pools need no shutdown.
+ */
+public class LeakDetector {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final ScheduledThreadPoolExecutor TIMER = newTimer();
+
+    private final int sampleInterval;
+    private final long holdThresholdNanos;
+    private final Consumer<LeakReport> reporter;
+
+    LeakDetector(int sampleInterval, long holdThreshold, TimeUnit unit, Consumer<LeakReport> reporter) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("sampleInterval must be greater than 0");
+        }
+        if (holdThreshold <= 0) {
+            throw new IllegalArgumentException("holdThreshold must be greater than 0");
+        }
+        this.sampleInterval = sampleInterval;
+        this.holdThresholdNanos = unit.toNanos(holdThreshold);
+        this.reporter = reporter;
+    }
+
+    private static ScheduledThreadPoolExecutor newTimer() {
+        var timer = new ScheduledThreadPoolExecutor(1, (runnable) -> {
+            var thread = new Thread(runnable, "lease-leak-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    boolean shouldSample() {
+        return sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+    }
+
+    <T> Trace track(Object lease, T resource, Consumer<T> reclaim) {
+        var trace = new Trace(resource, reclaim);
+        trace.overdue = TIMER.schedule(trace::reportIfHeld, holdThresholdNanos, TimeUnit.NANOSECONDS);
+        trace.cleanable = CLEANER.register(lease, trace);
+        return trace;
+    }
+
+    /**
+     * Tracking state of a sampled lease. Must never reference the lease itself, otherwise the lease stays reachable
+     * from the cleaner and can never be reclaimed.
+     */
+    class Trace implements Runnable {
+        private final Throwable acquireSite;
+        private final String threadName;
+        private final long acquiredAt;
+        private final Object resource;
+        private final Consumer<Object> reclaim;
+        private final AtomicBoolean released;
+        private ScheduledFuture<?> overdue;
+        private Cleaner.Cleanable cleanable;
+
+        @SuppressWarnings("unchecked")
+        private <T> Trace(T resource, Consumer<T> reclaim) {
+            this.acquireSite = new Throwable("Lease acquired here");
+            this.threadName = Thread.currentThread().getName();
+            this.acquiredAt = System.nanoTime();
+            this.resource = resource;
+            this.reclaim = (Consumer<Object>) reclaim;
+            this.released = new AtomicBoolean(false);
+        }
+
+        boolean release() {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            overdue.cancel(false);
+            cleanable.clean();
+            return true;
+        }
+
+        // Invoked by the cleaner once the lease is unreachable, or by release() to deregister.
+        @Override
+        public void run() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            overdue.cancel(false);
+            reporter.accept(new LeakReport(acquireSite, threadName, System.nanoTime() - acquiredAt, true));
+            reclaim.accept(resource);
+        }
+
+        private void reportIfHeld() {
+            if (!released.get()) {
+                reporter.accept(new LeakReport(acquireSite, threadName, System.nanoTime() - acquiredAt, false));
+            }
+        }
+    }
+
+    public static class LeakReport {
+        private final Throwable acquireSite;
+        private final String threadName;
+        private final long heldNanos;
+        private final boolean reclaimed;
+
+        LeakReport(Throwable acquireSite, String threadName, long heldNanos, boolean reclaimed) {
+            this.acquireSite = acquireSite;
+            this.threadName = threadName;
+            this.heldNanos = heldNanos;
+            this.reclaimed = reclaimed;
+        }
+
+        public Throwable getAcquireSite() {
+            return acquireSite;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getHeld(TimeUnit unit) {
+            return unit.convert(heldNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * true if the lease was garbage collected without being closed and its resource was returned to the pool,
+         * false if the lease is still held past the hold threshold.
+         */
+        public boolean isReclaimed() {
+            return reclaimed;
+        }
+    }
+}
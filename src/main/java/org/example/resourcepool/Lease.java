@@ -0,0 +1,9 @@
+package org.example.resourcepool;
+
+public interface Lease<T> extends AutoCloseable {
+
+    T get();
+
+    @Override
+    void close();
+}
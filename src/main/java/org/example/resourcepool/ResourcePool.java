@@ -1,5 +1,7 @@
 package org.example.resourcepool;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public interface ResourcePool<T> {
@@ -8,7 +10,17 @@ public interface ResourcePool<T> {
 
     T acquire(long timeout, TimeUnit unit) throws InterruptedException;
 
+    List<T> acquire(int n) throws InterruptedException;
+
+    List<T> acquire(int n, long timeout, TimeUnit unit) throws InterruptedException;
+
     void release(T resource) throws InterruptedException;
 
+    void releaseAll(Collection<T> resources) throws InterruptedException;
+
+    Lease<T> lease() throws InterruptedException;
+
+    Lease<T> lease(long timeout, TimeUnit unit) throws InterruptedException;
+
     int availableCount();
 }
@@ -0,0 +1,154 @@
+package org.example.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WorkStealingDequePerformanceTest {
+
+    // the workload is a binary task tree of this depth, each leaf does LEAF_WORK iterations
+    private static final int DEPTH = 16;
+    private static final int LEAF_WORK = 2_000;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURE_ITERATIONS = 5;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+    @Test
+    void runComparison() throws InterruptedException {
+        System.out.println("--- Starting Work-Stealing Comparison ---");
+        System.out.println("Task tree depth: " + DEPTH + ", leaf work: " + LEAF_WORK);
+
+        // Warm up the JVM to trigger JIT optimizations
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runForkJoin(4);
+            runWorkStealing(4);
+        }
+
+        for (int threads : THREAD_COUNTS) {
+            long forkJoinTotal = 0;
+            long workStealingTotal = 0;
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                forkJoinTotal += runForkJoin(threads);
+                workStealingTotal += runWorkStealing(threads);
+            }
+            printResults("ForkJoinPool", threads, forkJoinTotal / MEASURE_ITERATIONS);
+            printResults("WorkStealingDeque", threads, workStealingTotal / MEASURE_ITERATIONS);
+        }
+    }
+
+    private long runForkJoin(int threads) {
+        var pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            long result = pool.invoke(new TreeTask(DEPTH));
+            long elapsed = System.nanoTime() - start;
+            check(result);
+            return elapsed;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // A minimal scheduler: every worker owns a deque, runs its own tasks LIFO and steals from random victims when it
+    // runs out. Tasks are fire-and-forget tree nodes, leaves add their result to a shared sum.
+    private long runWorkStealing(int threads) throws InterruptedException {
+        final List<WorkStealingDeque<Integer>> deques = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            deques.add(new WorkStealingDeque<>());
+        }
+        final long leaves = 1L << DEPTH;
+        final var leavesDone = new AtomicLong(0);
+        final var sum = new LongAdder();
+        deques.get(0).push(DEPTH);
+
+        final var workers = new ArrayList<Thread>();
+        for (int w = 0; w < threads; w++) {
+            final var own = deques.get(w);
+            workers.add(new Thread(() -> {
+                var random = ThreadLocalRandom.current();
+                long localSum = 0;
+                long localLeaves = 0;
+                while (true) {
+                    var depth = own.pop();
+                    if (depth == null) {
+                        depth = deques.get(random.nextInt(deques.size())).steal();
+                    }
+                    if (depth == null) {
+                        if (localLeaves > 0) {
+                            sum.add(localSum);
+                            leavesDone.addAndGet(localLeaves);
+                            localSum = 0;
+                            localLeaves = 0;
+                        }
+                        if (leavesDone.get() == leaves) {
+                            return;
+                        }
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    if (depth == 0) {
+                        localSum += leafWork();
+                        localLeaves++;
+                    } else {
+                        own.push(depth - 1);
+                        own.push(depth - 1);
+                    }
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        for (var worker : workers) {
+            worker.start();
+        }
+        for (var worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        check(sum.sum());
+        return elapsed;
+    }
+
+    private static long leafWork() {
+        long acc = 0;
+        for (int i = 0; i < LEAF_WORK; i++) {
+            acc += (i * 31L) ^ (acc >>> 3);
+        }
+        return acc & 1;
+    }
+
+    private static void check(long result) {
+        if (result != (leafWork() << DEPTH)) {
+            throw new IllegalStateException("Unexpected result " + result);
+        }
+    }
+
+    private void printResults(String label, int threads, long avgNano) {
+        System.out.printf("%s, %d threads: avg %d ms%n", label, threads, avgNano / 1_000_000);
+    }
+
+    private static class TreeTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        private final int depth;
+
+        TreeTask(int depth) {
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            if (depth == 0) {
+                return leafWork();
+            }
+            var left = new TreeTask(depth - 1);
+            left.fork();
+            long right = new TreeTask(depth - 1).compute();
+            return right + left.join();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.datastructures;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkStealingDequeTest {
+
+    @Test
+    @Timeout(5)
+    void testOwnerIsLifoAndThiefIsFifo() {
+        // Given
+        final var deque = new WorkStealingDeque<Integer>();
+        for (int i = 0; i < 5; i++) {
+            deque.push(i);
+        }
+
+        // When & Then
+        assertEquals(5, deque.size());
+        assertEquals(4, deque.pop());
+        assertEquals(0, deque.steal());
+        assertEquals(1, deque.steal());
+        assertEquals(3, deque.pop());
+        assertEquals(2, deque.pop());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @Timeout(5)
+    void testGrowKeepsItems() {
+        // Given
+        final var deque = new WorkStealingDeque<Integer>(4);
+        final int count = 1000;
+
+        // When
+        deque.push(-1);
+        assertEquals(-1, deque.steal());
+        for (int i = 0; i < count; i++) {
+            deque.push(i);
+        }
+
+        // Then
+        assertTrue(deque.capacity() >= count);
+        assertEquals(count, deque.size());
+        for (int i = 0; i < count / 2; i++) {
+            assertEquals(i, deque.steal());
+        }
+        for (int i = count - 1; i >= count / 2; i--) {
+            assertEquals(i, deque.pop());
+        }
+        assertNull(deque.pop());
+    }
+
+    @Test
+    @Timeout(5)
+    void testNullItemIsRejected() {
+        // Given
+        final var deque = new WorkStealingDeque<Integer>();
+
+        // When & Then
+        assertThrows(NullPointerException.class, () -> deque.push(null));
+        assertThrows(IllegalArgumentException.class, () -> new WorkStealingDeque<Integer>(0));
+    }
+
+    @Test
+    @Timeout(10)
+    void testConcurrentPopAndSteal() throws InterruptedException {
+        // Given
+        final var deque = new WorkStealingDeque<Integer>(2);
+        final int thieves = 4;
+        final int count = 200_000;
+        final var taken = new ConcurrentLinkedQueue<Integer>();
+        final var ownerDone = new AtomicBoolean(false);
+        final var latch = new CountDownLatch(thieves + 1);
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int i = 0; i < thieves; i++) {
+            threads.add(new Thread(() -> {
+                latch.countDown();
+                while (!ownerDone.get() || !deque.isEmpty()) {
+                    var item = deque.steal();
+                    if (item != null) {
+                        taken.add(item);
+                    }
+                }
+            }));
+        }
+        threads.add(new Thread(() -> {
+            latch.countDown();
+            for (int i = 0; i < count; i++) {
+                deque.push(i);
+                if (i % 3 == 0) {
+                    var item = deque.pop();
+                    if (item != null) {
+                        taken.add(item);
+                    }
+                }
+            }
+            ownerDone.set(true);
+        }));
+        for (var thread : threads) {
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(count, taken.size());
+        assertEquals(count, new HashSet<>(taken).size());
+    }
+}
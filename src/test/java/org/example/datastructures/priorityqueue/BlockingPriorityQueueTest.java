@@ -0,0 +1,150 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockingPriorityQueueTest {
+
+    @Test
+    @Timeout(5)
+    void testTakeReturnsItemsInOrder() throws InterruptedException {
+        // Given
+        final var queue = new BlockingPriorityQueue<Integer>();
+
+        // When
+        queue.put(5);
+        queue.add(1);
+        queue.put(3);
+
+        // Then
+        assertEquals(1, queue.take());
+        assertEquals(3, queue.take());
+        assertEquals(5, queue.take());
+        assertThrows(NoSuchElementException.class, queue::removeTop);
+    }
+
+    @Test
+    @Timeout(1)
+    void testTakeBlocksUntilItemIsAdded() throws InterruptedException {
+        // Given
+        final var queue = new BlockingPriorityQueue<Integer>();
+        final var taken = new AtomicReference<Integer>();
+        final var consumer = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        consumer.start();
+        Thread.sleep(100);
+        assertNull(taken.get());
+        queue.add(7);
+        consumer.join();
+
+        // Then
+        assertEquals(7, taken.get());
+    }
+
+    @Test
+    @Timeout(1)
+    void testPollTimesOutWhenEmpty() throws InterruptedException {
+        // Given
+        final var queue = new BlockingPriorityQueue<Integer>();
+
+        // When & Then
+        assertNull(queue.poll(100, TimeUnit.MILLISECONDS));
+        queue.add(1);
+        assertEquals(1, queue.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @Timeout(1)
+    void testPutBlocksWhenFull() throws InterruptedException {
+        // Given
+        final var queue = new BlockingPriorityQueue<Integer>(2);
+        queue.put(1);
+        queue.put(2);
+        assertThrows(IllegalStateException.class, () -> queue.add(3));
+        assertFalse(queue.offer(3, 50, TimeUnit.MILLISECONDS));
+
+        // When
+        final var produced = new AtomicBoolean(false);
+        final var producer = new Thread(() -> {
+            try {
+                queue.put(0);
+                produced.set(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        Thread.sleep(100);
+        assertFalse(produced.get());
+        assertEquals(1, queue.take());
+        producer.join();
+
+        // Then
+        assertTrue(produced.get());
+        assertEquals(0, queue.take());
+        assertEquals(2, queue.take());
+        assertEquals(2, queue.remainingCapacity());
+    }
+
+    @Test
+    @Timeout(5)
+    void testConcurrentProducersAndConsumers() throws InterruptedException {
+        // Given
+        final var queue = new BlockingPriorityQueue<Integer>(8);
+        final int producers = 4;
+        final int perProducer = 2000;
+        final var consumed = new ConcurrentLinkedQueue<Integer>();
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.put(base + i);
+                    }
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        consumed.add(queue.take());
+                    }
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(producers * perProducer, consumed.size());
+        assertEquals(producers * perProducer, new HashSet<>(consumed).size());
+        assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DAryHeapPriorityQueueTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRemoveTopReturnsItemsInOrderForEveryArity() {
+        for (int arity = 2; arity <= 8; arity++) {
+            // Given
+            final var queue = new DAryHeapPriorityQueue<Integer>(1, arity, null);
+            final var items = new ArrayList<Integer>();
+            for (int i = 0; i < 5000; i++) {
+                items.add(i % 777);
+            }
+            Collections.shuffle(items);
+
+            // When
+            for (var item : items) {
+                queue.add(item);
+            }
+
+            // Then
+            Collections.sort(items);
+            assertEquals(items.size(), queue.size());
+            for (var item : items) {
+                assertEquals(item, queue.peekTop());
+                assertEquals(item, queue.removeTop());
+            }
+            assertEquals(0, queue.size());
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testComparator() {
+        // Given
+        final var queue = new DAryHeapPriorityQueue<String>(16, Comparator.comparing(String::length));
+
+        // When
+        queue.add("ccc");
+        queue.add("a");
+        queue.add("bb");
+
+        // Then
+        assertEquals("a", queue.removeTop());
+        assertEquals("bb", queue.removeTop());
+        assertEquals("ccc", queue.removeTop());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testEmptyQueueThrowsException() {
+        // Given
+        final var queue = new DAryHeapPriorityQueue<Integer>(16);
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, queue::removeTop);
+        assertThrows(NoSuchElementException.class, queue::peekTop);
+        assertThrows(IllegalArgumentException.class, () -> new DAryHeapPriorityQueue<Integer>(16, 1, null));
+    }
+}
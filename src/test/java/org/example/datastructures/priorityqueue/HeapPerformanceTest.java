@@ -0,0 +1,63 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.IntFunction;
+
+public class HeapPerformanceTest {
+
+    // Larger sizes (10M, 100M) need a test JVM heap of several GB.
+    private static final int[] SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 3;
+
+    @Test
+    void runComparison() {
+        System.out.println("--- Starting Binary vs 4-ary Heap Comparison ---");
+
+        // Warm up the JVM to trigger JIT optimizations
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            var items = generateRandomArray(100_000);
+            fillAndDrain(SynchronizedPriorityQueue::new, items);
+            fillAndDrain(DAryHeapPriorityQueue::new, items);
+        }
+
+        for (int size : SIZES) {
+            long binaryTotal = 0;
+            long dAryTotal = 0;
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                var items = generateRandomArray(size);
+                binaryTotal += fillAndDrain(SynchronizedPriorityQueue::new, items);
+                dAryTotal += fillAndDrain(DAryHeapPriorityQueue::new, items);
+            }
+            printResults("SynchronizedPriorityQueue", size, binaryTotal / MEASURE_ITERATIONS);
+            printResults("DAryHeapPriorityQueue(4)", size, dAryTotal / MEASURE_ITERATIONS);
+        }
+    }
+
+    private long fillAndDrain(IntFunction<PriorityQueue<Integer>> factory, Integer[] items) {
+        long start = System.nanoTime();
+        var queue = factory.apply(16);
+        for (var item : items) {
+            queue.add(item);
+        }
+        while (queue.size() > 0) {
+            queue.removeTop();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private Integer[] generateRandomArray(int size) {
+        Random rand = new Random();
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(size);
+        }
+        return arr;
+    }
+
+    private void printResults(String label, int size, long avgNano) {
+        System.out.printf("%s, %d items: avg %d us%n", label, size, avgNano / 1_000);
+    }
+}
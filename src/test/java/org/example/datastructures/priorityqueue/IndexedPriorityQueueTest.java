@@ -0,0 +1,125 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedPriorityQueueTest {
+
+    private static class Task implements Comparable<Task> {
+        final int id;
+        long deadline;
+
+        Task(int id, long deadline) {
+            this.id = id;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testUpdatePriorityInBothDirections() {
+        // Given
+        final var queue = new IndexedPriorityQueue<Task>(16);
+        final var a = new Task(1, 10);
+        final var b = new Task(2, 20);
+        final var c = new Task(3, 30);
+        queue.add(a);
+        queue.add(b);
+        queue.add(c);
+
+        // When
+        c.deadline = 5;
+        assertTrue(queue.updatePriority(c));
+        a.deadline = 40;
+        assertTrue(queue.updatePriority(a));
+
+        // Then
+        assertEquals(c, queue.removeTop());
+        assertEquals(b, queue.removeTop());
+        assertEquals(a, queue.removeTop());
+        assertFalse(queue.updatePriority(a));
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRemoveArbitraryItem() {
+        // Given
+        final var queue = new IndexedPriorityQueue<Task>(16);
+        final var tasks = new ArrayList<Task>();
+        for (int i = 0; i < 10; i++) {
+            var task = new Task(i, i * 10L);
+            tasks.add(task);
+            queue.add(task);
+        }
+
+        // When
+        assertTrue(queue.remove(tasks.get(0)));
+        assertTrue(queue.remove(tasks.get(5)));
+        assertTrue(queue.remove(tasks.get(9)));
+        assertFalse(queue.remove(tasks.get(5)));
+
+        // Then
+        assertEquals(7, queue.size());
+        assertFalse(queue.contains(tasks.get(5)));
+        for (int i : new int[]{1, 2, 3, 4, 6, 7, 8}) {
+            assertEquals(tasks.get(i), queue.removeTop());
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRejectsDuplicates() {
+        // Given
+        final var queue = new IndexedPriorityQueue<Task>(16);
+        final var task = new Task(1, 10);
+        queue.add(task);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> queue.add(task));
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRandomUpdatesAndRemovalsKeepHeapOrder() {
+        // Given
+        final var queue = new IndexedPriorityQueue<Task>(16);
+        final var random = new Random(7);
+        final var live = new ArrayList<Task>();
+        for (int i = 0; i < 2000; i++) {
+            var task = new Task(i, random.nextInt(100_000));
+            live.add(task);
+            queue.add(task);
+        }
+
+        // When
+        for (int i = 0; i < 3000; i++) {
+            var task = live.get(random.nextInt(live.size()));
+            if (random.nextInt(4) == 0) {
+                assertTrue(queue.remove(task));
+                live.remove(task);
+            } else {
+                task.deadline = random.nextInt(100_000);
+                assertTrue(queue.updatePriority(task));
+            }
+        }
+
+        // Then
+        live.sort(Comparator.naturalOrder());
+        assertEquals(live.size(), queue.size());
+        for (var task : live) {
+            assertEquals(task.deadline, queue.removeTop().deadline);
+        }
+    }
+}
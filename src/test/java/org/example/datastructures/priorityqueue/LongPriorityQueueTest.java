@@ -0,0 +1,70 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongPriorityQueueTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRemoveTopReturnsPayloadsInKeyOrder() {
+        // Given
+        final var queue = new LongPriorityQueue(1);
+        final var random = new Random(42);
+        final int count = 10_000;
+        final var keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextLong();
+            queue.add(keys[i], i);
+        }
+
+        // When & Then
+        assertEquals(count, queue.size());
+        final var sorted = keys.clone();
+        Arrays.sort(sorted);
+        for (var key : sorted) {
+            assertEquals(key, queue.peekTopKey());
+            int payload = queue.removeTop();
+            assertEquals(key, keys[payload]);
+        }
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testPeekTopPayload() {
+        // Given
+        final var queue = new LongPriorityQueue(16);
+
+        // When
+        queue.add(30L, 3);
+        queue.add(10L, 1);
+        queue.add(20L, 2);
+
+        // Then
+        assertEquals(10L, queue.peekTopKey());
+        assertEquals(1, queue.peekTopPayload());
+        assertEquals(1, queue.removeTop());
+        assertEquals(2, queue.removeTop());
+        assertEquals(3, queue.removeTop());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testEmptyQueueThrowsException() {
+        // Given
+        final var queue = new LongPriorityQueue(16);
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, queue::removeTop);
+        assertThrows(NoSuchElementException.class, queue::peekTopKey);
+        assertThrows(NoSuchElementException.class, queue::peekTopPayload);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiQueueTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testEveryItemIsRemovedOnce() {
+        // Given
+        final var queue = new MultiQueue<Integer>(4, 2);
+        final int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            queue.add(i);
+        }
+
+        // When
+        final var removed = new HashSet<Integer>();
+        while (queue.size() > 0) {
+            removed.add(queue.removeTop());
+        }
+
+        // Then
+        assertEquals(count, removed.size());
+        assertThrows(NoSuchElementException.class, queue::removeTop);
+        assertThrows(NoSuchElementException.class, queue::peekTop);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRankErrorIsBoundedByQueueCount() {
+        // Given
+        final int threads = 4;
+        final int queuesPerThread = 2;
+        final int queueCount = threads * queuesPerThread;
+        // seeded, so the sampled heaps and the resulting rank error are the same on every run
+        final var queue = new MultiQueue<Integer>(threads, queuesPerThread, new Random(42));
+        final int count = 100_000;
+        final var items = new ArrayList<Integer>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        Collections.shuffle(items, new Random(7));
+        for (var item : items) {
+            queue.add(item);
+        }
+
+        // When
+        // present[i] counts the items < i that are still queued, kept in a Fenwick tree
+        final var tree = new int[count + 1];
+        for (int i = 1; i <= count; i++) {
+            tree[i] += 1;
+            int parent = i + (i & -i);
+            if (parent <= count) {
+                tree[parent] += tree[i];
+            }
+        }
+        long totalError = 0;
+        int maxError = 0;
+        for (int n = 0; n < count; n++) {
+            int item = queue.removeTop();
+            int smallerQueued = 0;
+            for (int i = item; i > 0; i -= (i & -i)) {
+                smallerQueued += tree[i];
+            }
+            for (int i = item + 1; i <= count; i += (i & -i)) {
+                tree[i]--;
+            }
+            totalError += smallerQueued;
+            maxError = Math.max(maxError, smallerQueued);
+        }
+
+        // Then
+        double meanError = (double) totalError / count;
+        assertTrue(meanError <= queueCount, "mean rank error " + meanError + ", max " + maxError);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testConcurrentAddAndRemoveTop() throws InterruptedException {
+        // Given
+        final int threadCount = 8;
+        final int perThread = 5000;
+        final var queue = new MultiQueue<Integer>(threadCount, 2);
+        final var latch = new CountDownLatch(threadCount);
+        final var removed = new ConcurrentLinkedQueue<Integer>();
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final int base = t * perThread;
+            final var thread = new Thread(() -> {
+                latch.countDown();
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < perThread; i++) {
+                    queue.add(base + i);
+                    if (i % 2 == 1) {
+                        removed.add(queue.removeTop());
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        while (queue.size() > 0) {
+            removed.add(queue.removeTop());
+        }
+
+        // Then
+        assertEquals(threadCount * perThread, removed.size());
+        assertEquals(threadCount * perThread, new HashSet<>(removed).size());
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PairingHeapTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRemoveTopReturnsItemsInOrder() {
+        // Given
+        final var heap = new PairingHeap<Integer>();
+        final var items = shuffledRange(0, 100_000);
+
+        // When
+        for (var item : items) {
+            heap.add(item);
+        }
+
+        // Then
+        assertEquals(items.size(), heap.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, heap.peekTop());
+            assertEquals(i, heap.removeTop());
+        }
+        assertThrows(NoSuchElementException.class, heap::removeTop);
+        assertThrows(NoSuchElementException.class, heap::peekTop);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testMeld() {
+        // Given
+        final var evens = new PairingHeap<Integer>();
+        final var odds = new PairingHeap<Integer>();
+        for (var item : shuffledRange(0, 1000)) {
+            (item % 2 == 0 ? evens : odds).add(item);
+        }
+
+        // When
+        evens.meld(odds);
+
+        // Then
+        assertEquals(0, odds.size());
+        assertThrows(NoSuchElementException.class, odds::peekTop);
+        assertEquals(1000, evens.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, evens.removeTop());
+        }
+        assertThrows(IllegalArgumentException.class, () -> evens.meld(evens));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testConcurrentMeldInBothDirectionsDoesNotDeadlock() throws InterruptedException {
+        // Given
+        final var left = new SynchronizedPairingHeap<Integer>();
+        final var right = new SynchronizedPairingHeap<Integer>();
+        for (int i = 0; i < 100; i++) {
+            left.add(i);
+            right.add(100 + i);
+        }
+
+        // When
+        final var toLeft = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                left.meld(right);
+            }
+        });
+        final var toRight = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                right.meld(left);
+            }
+        });
+        toLeft.start();
+        toRight.start();
+        toLeft.join();
+        toRight.join();
+
+        // Then
+        left.meld(right);
+        assertEquals(200, left.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, left.removeTop());
+        }
+    }
+
+    private static ArrayList<Integer> shuffledRange(int from, int to) {
+        final var items = new ArrayList<Integer>();
+        for (int i = from; i < to; i++) {
+            items.add(i);
+        }
+        Collections.shuffle(items);
+        return items;
+    }
+}
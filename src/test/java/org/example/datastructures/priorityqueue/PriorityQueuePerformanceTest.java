@@ -0,0 +1,67 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public class PriorityQueuePerformanceTest {
+
+    private static final int OPS_PER_THREAD = 20_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    @Test
+    void runComparison() throws InterruptedException {
+        System.out.println("--- Starting Priority Queue Throughput Comparison ---");
+        System.out.println("Ops per thread: " + OPS_PER_THREAD + " (add followed by removeTop)");
+
+        // Warm up the JVM to trigger JIT optimizations
+        measure(() -> new SynchronizedPriorityQueue<>(16), 4);
+        measure(SkipListPriorityQueue::new, 4);
+        measure(() -> new MultiQueue<>(4, 2), 4);
+
+        for (int threads : THREAD_COUNTS) {
+            printResults("SynchronizedPriorityQueue", threads, measure(() -> new SynchronizedPriorityQueue<>(16), threads));
+            printResults("SkipListPriorityQueue", threads, measure(SkipListPriorityQueue::new, threads));
+            printResults("MultiQueue", threads, measure(() -> new MultiQueue<>(threads, 2), threads));
+        }
+    }
+
+    private long measure(Supplier<PriorityQueue<Integer>> factory, int threadCount) throws InterruptedException {
+        final var queue = factory.get();
+        final var ready = new CountDownLatch(threadCount);
+        final var start = new CountDownLatch(1);
+        final var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final var thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                var random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    queue.add(random.nextInt(1_000_000));
+                    queue.removeTop();
+                }
+            });
+            workers.add(thread);
+            thread.start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (var thread : workers) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return (2L * OPS_PER_THREAD * threadCount * 1_000_000L) / Math.max(elapsed, 1);
+    }
+
+    private void printResults(String label, int threads, long opsPerMs) {
+        System.out.printf("%s, %d threads: %d ops/ms%n", label, threads, opsPerMs);
+    }
+}
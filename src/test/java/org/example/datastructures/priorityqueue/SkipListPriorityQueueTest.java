@@ -0,0 +1,100 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkipListPriorityQueueTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRemoveTopReturnsItemsInOrder() {
+        // Given
+        final var queue = new SkipListPriorityQueue<Integer>();
+        final var items = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(i % 100);
+        }
+        Collections.shuffle(items);
+
+        // When
+        for (var item : items) {
+            queue.add(item);
+        }
+
+        // Then
+        assertEquals(items.size(), queue.size());
+        Collections.sort(items);
+        for (var item : items) {
+            assertEquals(item, queue.peekTop());
+            assertEquals(item, queue.removeTop());
+        }
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testEmptyQueueThrowsException() {
+        // Given
+        final var queue = new SkipListPriorityQueue<Integer>();
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, queue::removeTop);
+        assertThrows(NoSuchElementException.class, queue::peekTop);
+        queue.add(1);
+        queue.removeTop();
+        assertThrows(NoSuchElementException.class, queue::removeTop);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testConcurrentAddAndRemoveTop() throws InterruptedException {
+        // Given
+        final var queue = new SkipListPriorityQueue<Integer>();
+        final int threadCount = 8;
+        final int perThread = 5000;
+        final var latch = new CountDownLatch(threadCount);
+        final var removed = new ConcurrentLinkedQueue<Integer>();
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final int base = t * perThread;
+            final var thread = new Thread(() -> {
+                latch.countDown();
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < perThread; i++) {
+                    queue.add(base + i);
+                    if (i % 2 == 1) {
+                        removed.add(queue.removeTop());
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        while (queue.size() > 0) {
+            removed.add(queue.removeTop());
+        }
+
+        // Then
+        assertEquals(threadCount * perThread, removed.size());
+        assertEquals(threadCount * perThread, new HashSet<>(removed).size());
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SynchronizedPriorityQueueTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testConstructFromCollection() {
+        // Given
+        final var items = shuffledRange(10_000);
+
+        // When
+        final var queue = new SynchronizedPriorityQueue<>(items);
+
+        // Then
+        assertEquals(items.size(), queue.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, queue.removeTop());
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testAddAllToEmptyAndNonEmptyQueue() {
+        // Given
+        final var queue = new SynchronizedPriorityQueue<Integer>(16);
+        queue.add(500);
+        queue.add(5);
+
+        // When
+        queue.addAll(shuffledRange(1000));
+        queue.addAll(Arrays.asList(-3, 2000, -1));
+
+        // Then
+        final var expected = new ArrayList<>(shuffledRange(1000));
+        expected.addAll(Arrays.asList(500, 5, -3, 2000, -1));
+        Collections.sort(expected);
+        assertEquals(expected.size(), queue.size());
+        for (var item : expected) {
+            assertEquals(item, queue.removeTop());
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testAddAllRejectsNullWithoutModifyingQueue() {
+        // Given
+        final var queue = new SynchronizedPriorityQueue<Integer>(16);
+        queue.add(1);
+
+        // When & Then
+        assertThrows(NullPointerException.class, () -> queue.addAll(Arrays.asList(2, null)));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testDrainTo() {
+        // Given
+        final var queue = new SynchronizedPriorityQueue<>(shuffledRange(100));
+        final var drained = new ArrayList<Integer>();
+
+        // When & Then
+        assertEquals(40, queue.drainTo(drained, 40));
+        assertEquals(60, queue.size());
+        assertEquals(60, queue.drainTo(drained, 1000));
+        assertEquals(0, queue.drainTo(drained, 10));
+        assertEquals(sortedRange(100), drained);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testDrainToKeepsItemsWhenTargetRejects() {
+        // Given
+        final var queue = new SynchronizedPriorityQueue<>(shuffledRange(10));
+        final var target = new ArrayBlockingQueue<Integer>(3);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> queue.drainTo(target, 10));
+
+        // Then
+        assertEquals(List.of(0, 1, 2), new ArrayList<>(target));
+        assertEquals(7, queue.size());
+        assertEquals(3, queue.removeTop());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testHeapShrinksAfterDrain() {
+        // Given
+        final var queue = new SynchronizedPriorityQueue<Integer>(16);
+        for (int i = 0; i < 100_000; i++) {
+            queue.add(i);
+        }
+        assertTrue(queue.capacity() >= 100_000);
+
+        // When
+        while (queue.size() > 10) {
+            queue.removeTop();
+        }
+
+        // Then
+        assertTrue(queue.capacity() <= 64, "capacity " + queue.capacity());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(100_000 - 10 + i, queue.removeTop());
+        }
+        assertEquals(16, queue.capacity());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testHeapBuiltFromCollectionShrinksAfterDrain() {
+        // Given
+        final var items = new ArrayList<Integer>();
+        for (int i = 0; i < 100_000; i++) {
+            items.add(i);
+        }
+        final var queue = new SynchronizedPriorityQueue<Integer>(items);
+        assertTrue(queue.capacity() >= 100_000);
+
+        // When
+        queue.drainTo(new ArrayList<>(), 100_000 - 10);
+        queue.trimToSize();
+
+        // Then
+        assertEquals(16, queue.capacity());
+        assertEquals(10, queue.size());
+        assertEquals(100_000 - 10, queue.removeTop());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testNoResizeThrashingAroundBoundary() {
+        // Given
+        final var queue = new SynchronizedPriorityQueue<Integer>(16);
+        for (int i = 0; i < 65; i++) {
+            queue.add(i);
+        }
+        final int capacity = queue.capacity();
+        queue.removeTop();
+
+        // When & Then
+        for (int i = 0; i < 1000; i++) {
+            queue.add(i);
+            queue.removeTop();
+            assertEquals(capacity, queue.capacity());
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testTrimToSize() {
+        // Given
+        final var queue = new SynchronizedPriorityQueue<Integer>(16);
+        for (int i = 0; i < 1000; i++) {
+            queue.add(i);
+        }
+        queue.drainTo(new ArrayList<>(), 700);
+        assertEquals(1024, queue.capacity());
+
+        // When
+        queue.trimToSize();
+
+        // Then
+        assertEquals(512, queue.capacity());
+        assertEquals(300, queue.size());
+        assertEquals(700, queue.removeTop());
+    }
+
+    private static List<Integer> sortedRange(int n) {
+        final var items = new ArrayList<Integer>(n);
+        for (int i = 0; i < n; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    private static List<Integer> shuffledRange(int n) {
+        final var items = sortedRange(n);
+        Collections.shuffle(items);
+        return items;
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testExpiresOnlyAfterDeadline() {
+        // Given
+        final var wheel = new TimingWheel<String>(10, 8, 0);
+        wheel.schedule("a", 25);
+        wheel.schedule("b", 30);
+        wheel.schedule("c", 1000);
+
+        // When & Then
+        assertEquals(0, wheel.advanceTo(24).size());
+        assertEquals(0, wheel.advanceTo(29).size());
+        assertEquals(List.of("a", "b"), sorted(wheel.advanceTo(30)));
+        assertEquals(0, wheel.advanceTo(999).size());
+        assertEquals(List.of("c"), wheel.advanceTo(1005));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testCancelledTimeoutNeverExpires() {
+        // Given
+        final var wheel = new TimingWheel<String>(10, 8, 0);
+        final var keep = wheel.schedule("keep", 500);
+        final var drop = wheel.schedule("drop", 500);
+
+        // When
+        assertTrue(drop.cancel());
+        assertFalse(drop.cancel());
+
+        // Then
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("keep"), wheel.advanceTo(600));
+        assertTrue(keep.isExpired());
+        assertTrue(drop.isCancelled());
+        assertFalse(keep.cancel());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testScheduleInThePastExpiresOnNextAdvance() {
+        // Given
+        final var wheel = new TimingWheel<String>(10, 8, 1000);
+        wheel.advanceTo(2000);
+
+        // When
+        wheel.schedule("late", 1500);
+
+        // Then
+        assertEquals(List.of("late"), wheel.advanceTo(2000));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRandomScheduleCancelAndAdvanceAcrossLevels() {
+        // Given
+        final long tick = 10;
+        final var wheel = new TimingWheel<Integer>(tick, 4, 0);
+        final var random = new Random(11);
+        final var timeouts = new ArrayList<TimingWheel.Timeout<Integer>>();
+        final var cancelled = new HashSet<Integer>();
+        final var expired = new HashSet<Integer>();
+        long now = 0;
+
+        // When & Then
+        for (int round = 0; round < 2000; round++) {
+            for (int i = 0; i < 5; i++) {
+                int id = timeouts.size();
+                timeouts.add(wheel.schedule(id, now + random.nextInt(20_000)));
+            }
+            if (random.nextInt(3) == 0) {
+                var victim = timeouts.get(random.nextInt(timeouts.size()));
+                if (victim.cancel()) {
+                    cancelled.add(victim.item());
+                }
+            }
+            long previous = now;
+            now += random.nextInt(50);
+            for (var id : wheel.advanceTo(now)) {
+                long deadline = timeouts.get(id).deadline();
+                assertTrue(deadline <= now, "expired early");
+                assertTrue(deadline > previous - tick, "expired late");
+                assertTrue(expired.add(id), "expired twice");
+                assertFalse(cancelled.contains(id), "cancelled timeout expired");
+            }
+        }
+        for (var id : wheel.advanceTo(now + 20_000)) {
+            assertTrue(expired.add(id), "expired twice");
+        }
+        assertEquals(timeouts.size(), expired.size() + cancelled.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testPriorityQueueAdapterReturnsEarliestDeadline() {
+        // Given
+        final var queue = new TimingWheelPriorityQueue<Long>(10, 4, 0, (deadline) -> deadline);
+        final var random = new Random(3);
+        final var deadlines = new ArrayList<Long>();
+        for (int i = 0; i < 2000; i++) {
+            long deadline = random.nextInt(100_000);
+            deadlines.add(deadline);
+            queue.add(deadline);
+        }
+
+        // When
+        final var expired = queue.advanceTo(31_234);
+
+        // Then
+        deadlines.sort(null);
+        final var remaining = deadlines.subList(expired.size(), deadlines.size());
+        assertEquals(remaining.size(), queue.size());
+        for (var deadline : remaining) {
+            assertEquals(deadline, queue.peekTop());
+            assertEquals(deadline, queue.removeTop());
+        }
+        assertThrows(NoSuchElementException.class, queue::removeTop);
+    }
+
+    private static List<String> sorted(List<String> items) {
+        items.sort(null);
+        return items;
+    }
+}
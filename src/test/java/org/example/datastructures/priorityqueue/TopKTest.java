@@ -0,0 +1,129 @@
+package org.example.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testKeepsLargestItemsInDescendingOrder() {
+        // Given
+        final var topK = new TopK<Integer>(5);
+        final var items = new ArrayList<Integer>();
+        for (int i = 0; i < 10_000; i++) {
+            items.add(i);
+        }
+        Collections.shuffle(items);
+
+        // When
+        for (var item : items) {
+            topK.offer(item);
+        }
+
+        // Then
+        assertEquals(List.of(9999, 9998, 9997, 9996, 9995), topK.topK());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRejectsItemsNotBetterThanKth() {
+        // Given
+        final var topK = new TopK<Integer>(2);
+
+        // When & Then
+        assertTrue(topK.offer(10));
+        assertTrue(topK.offer(20));
+        assertFalse(topK.offer(5));
+        assertFalse(topK.offer(10));
+        assertTrue(topK.offer(15));
+        assertEquals(List.of(20, 15), topK.topK());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testFewerItemsThanK() {
+        // Given
+        final var topK = new TopK<Integer>(10);
+
+        // When
+        topK.offer(3);
+        topK.offer(1);
+
+        // Then
+        assertEquals(List.of(3, 1), topK.topK());
+        assertEquals(10, topK.capacity());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testConcurrentOffersAreMergedOnRead() throws InterruptedException {
+        // Given
+        final var topK = new TopK<Integer>(100);
+        final int threadCount = 8;
+        final int perThread = 50_000;
+        final var latch = new CountDownLatch(threadCount);
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final int offset = t;
+            final var thread = new Thread(() -> {
+                latch.countDown();
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < perThread; i++) {
+                    topK.offer(i * threadCount + offset);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        final var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(threadCount * perThread - 1 - i);
+        }
+        assertEquals(expected, topK.topK());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testTerminatedThreadsHeapsAreMergedAndDropped() throws InterruptedException {
+        // Given
+        final var topK = new TopK<Integer>(3);
+        final int threadCount = 50;
+
+        // When
+        for (int t = 0; t < threadCount; t++) {
+            final int base = t * 10;
+            final var thread = new Thread(() -> {
+                for (int i = 0; i < 10; i++) {
+                    topK.offer(base + i);
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+
+        // Then
+        // every thread retires the heaps of the ones that ended before it started
+        assertEquals(1, topK.subHeapCount());
+        assertEquals(List.of(499, 498, 497), topK.topK());
+    }
+}
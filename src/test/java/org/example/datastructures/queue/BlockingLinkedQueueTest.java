@@ -0,0 +1,192 @@
+package org.example.datastructures.queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockingLinkedQueueTest {
+
+    @Test
+    @Timeout(5)
+    void testTakeReturnsItemsInFifoOrder() throws InterruptedException {
+        // Given
+        final var queue = new BlockingLinkedQueue<Integer>();
+
+        // When
+        queue.put(5);
+        queue.add(1);
+        queue.put(3);
+
+        // Then
+        assertEquals(5, queue.peek());
+        assertEquals(5, queue.take());
+        assertEquals(1, queue.take());
+        assertEquals(3, queue.poll());
+        assertThrows(NoSuchElementException.class, queue::poll);
+        assertThrows(NoSuchElementException.class, queue::peek);
+    }
+
+    @Test
+    @Timeout(1)
+    void testTakeBlocksUntilItemIsAdded() throws InterruptedException {
+        // Given
+        final var queue = new BlockingLinkedQueue<Integer>();
+        final var taken = new AtomicReference<Integer>();
+        final var consumer = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        consumer.start();
+        Thread.sleep(100);
+        assertNull(taken.get());
+        queue.add(7);
+        consumer.join();
+
+        // Then
+        assertEquals(7, taken.get());
+    }
+
+    @Test
+    @Timeout(1)
+    void testNullItemIsRejected() {
+        // Given
+        final var queue = new BlockingLinkedQueue<Integer>();
+
+        // When & Then
+        assertThrows(NullPointerException.class, () -> queue.add(null));
+        assertThrows(NullPointerException.class, () -> queue.put(null));
+        assertThrows(NullPointerException.class, () -> queue.offer(null, 1, TimeUnit.MILLISECONDS));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(1)
+    void testPollTimesOutWhenEmpty() throws InterruptedException {
+        // Given
+        final var queue = new BlockingLinkedQueue<Integer>();
+
+        // When & Then
+        assertNull(queue.poll(100, TimeUnit.MILLISECONDS));
+        queue.add(1);
+        assertEquals(1, queue.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @Timeout(1)
+    void testPutBlocksWhenFull() throws InterruptedException {
+        // Given
+        final var queue = new BlockingLinkedQueue<Integer>(2);
+        queue.put(1);
+        queue.put(2);
+        assertThrows(IllegalStateException.class, () -> queue.add(3));
+        assertFalse(queue.offer(3, 50, TimeUnit.MILLISECONDS));
+
+        // When
+        final var produced = new AtomicBoolean(false);
+        final var producer = new Thread(() -> {
+            try {
+                queue.put(0);
+                produced.set(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        Thread.sleep(100);
+        assertFalse(produced.get());
+        assertEquals(1, queue.take());
+        producer.join();
+
+        // Then
+        assertTrue(produced.get());
+        assertEquals(2, queue.take());
+        assertEquals(0, queue.take());
+        assertEquals(2, queue.remainingCapacity());
+    }
+
+    @Test
+    @Timeout(1)
+    void testRemoveFreesSpaceForBlockedProducer() throws InterruptedException {
+        // Given
+        final var queue = new BlockingLinkedQueue<Integer>(2);
+        queue.put(1);
+        queue.put(2);
+        final var producer = new Thread(() -> {
+            try {
+                queue.put(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        producer.start();
+        Thread.sleep(100);
+        assertTrue(queue.remove(2));
+        producer.join();
+
+        // Then
+        assertFalse(queue.remove(2));
+        assertEquals(1, queue.take());
+        assertEquals(3, queue.take());
+    }
+
+    @Test
+    @Timeout(5)
+    void testConcurrentProducersAndConsumers() throws InterruptedException {
+        // Given
+        final var queue = new BlockingLinkedQueue<Integer>(8);
+        final int producers = 4;
+        final int perProducer = 2000;
+        final var consumed = new ConcurrentLinkedQueue<Integer>();
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.put(base + i);
+                    }
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        consumed.add(queue.take());
+                    }
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(producers * perProducer, consumed.size());
+        assertEquals(producers * perProducer, new HashSet<>(consumed).size());
+        assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.datastructures.queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoarseLockQueueTest {
+
+    @Test
+    @Timeout(5)
+    void testFifoOrder() {
+        // Given
+        final var queue = new CoarseLockQueue<Integer>();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+        }
+
+        // Then
+        assertEquals(100, queue.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.poll());
+        }
+        assertThrows(NoSuchElementException.class, queue::poll);
+        assertThrows(NoSuchElementException.class, queue::peek);
+    }
+
+    @Test
+    @Timeout(5)
+    void testAddAllAndDrainTo() {
+        // Given
+        final var queue = new CoarseLockQueue<Integer>();
+        queue.add(0);
+        final var handle = queue.addWithHandle(1);
+        queue.addAll(List.of(2, 3, 4, 5));
+        queue.addAll(List.of());
+        assertTrue(handle.cancel());
+
+        // When
+        final var drained = new ArrayList<Integer>();
+        final int first = queue.drainTo(drained, 3);
+        final int second = queue.drainTo(drained, 10);
+
+        // Then
+        assertEquals(3, first);
+        assertEquals(2, second);
+        assertEquals(List.of(0, 2, 3, 4, 5), drained);
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.drainTo(drained, 10));
+        queue.addAll(List.of(6, 7));
+        assertEquals(6, queue.poll());
+        assertEquals(7, queue.poll());
+        assertThrows(NoSuchElementException.class, queue::poll);
+    }
+
+    @Test
+    @Timeout(5)
+    void testDrainToKeepsSizeWhenTargetRejects() {
+        // Given
+        final var queue = new CoarseLockQueue<Integer>();
+        queue.addAll(List.of(0, 1, 2, 3, 4));
+        final var target = new ArrayBlockingQueue<Integer>(2);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> queue.drainTo(target, 10));
+
+        // Then
+        assertEquals(List.of(0, 1), new ArrayList<>(target));
+        assertEquals(3, queue.size());
+        assertEquals(2, queue.poll());
+    }
+
+    @Test
+    @Timeout(5)
+    void testCancelRemovesItem() {
+        // Given
+        final var queue = new CoarseLockQueue<Integer>();
+        final var first = queue.addWithHandle(1);
+        final var second = queue.addWithHandle(2);
+        final var third = queue.addWithHandle(3);
+
+        // When
+        assertTrue(first.cancel());
+        assertTrue(third.cancel());
+
+        // Then
+        assertFalse(first.cancel());
+        assertEquals(1, queue.size());
+        assertEquals(2, queue.peek());
+        assertEquals(2, queue.poll());
+        assertFalse(second.cancel());
+        assertThrows(NoSuchElementException.class, queue::poll);
+        queue.add(4);
+        assertEquals(4, queue.poll());
+    }
+
+    @Test
+    @Timeout(5)
+    void testCancelAndRemoveDoNotRemoveTwice() {
+        // Given
+        final var queue = new CoarseLockQueue<Integer>();
+        final var handle = queue.addWithHandle(1);
+        queue.add(1);
+
+        // When & Then
+        assertTrue(handle.cancel());
+        assertTrue(queue.remove(1));
+        assertFalse(queue.remove(1));
+        assertEquals(0, queue.size());
+
+        final var removed = queue.addWithHandle(5);
+        assertTrue(queue.remove(5));
+        assertFalse(removed.cancel());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(10)
+    void testConcurrentCancelAndPoll() throws InterruptedException {
+        // Given
+        final var queue = new CoarseLockQueue<Integer>();
+        final int count = 100_000;
+        final var handles = new ArrayList<RemovalHandle>();
+        for (int i = 0; i < count; i++) {
+            handles.add(queue.addWithHandle(i));
+        }
+        final int[] cancelled = new int[1];
+        final int[] polled = new int[1];
+
+        // When
+        final var canceller = new Thread(() -> {
+            for (int i = handles.size() - 1; i >= 0; i--) {
+                if (handles.get(i).cancel()) {
+                    cancelled[0]++;
+                }
+            }
+        });
+        final var poller = new Thread(() -> {
+            while (true) {
+                try {
+                    queue.poll();
+                    polled[0]++;
+                } catch (NoSuchElementException e) {
+                    return;
+                }
+            }
+        });
+        canceller.start();
+        poller.start();
+        canceller.join();
+        poller.join();
+
+        // Then
+        assertEquals(count, cancelled[0] + polled[0]);
+        assertEquals(0, queue.size());
+    }
+}
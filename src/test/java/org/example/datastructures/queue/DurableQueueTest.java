@@ -0,0 +1,228 @@
+package org.example.datastructures.queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurableQueueTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    private DurableQueue<String> open() throws IOException {
+        return new DurableQueue<>(directory, SEGMENT_SIZE, s -> s.getBytes(StandardCharsets.UTF_8),
+                b -> new String(b, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @Timeout(5)
+    void testFifoOrder() throws IOException {
+        // Given
+        final var queue = open();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            queue.add("item-" + i);
+        }
+
+        // Then
+        assertEquals(100, queue.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("item-" + i, queue.peek());
+            assertEquals("item-" + i, queue.poll());
+        }
+        assertThrows(NoSuchElementException.class, queue::poll);
+        assertThrows(NoSuchElementException.class, queue::peek);
+        queue.close();
+    }
+
+    @Test
+    @Timeout(5)
+    void testItemsSurviveReopen() throws IOException {
+        // Given
+        final var queue = open();
+        for (int i = 0; i < 50; i++) {
+            queue.add("item-" + i);
+        }
+        for (int i = 0; i < 20; i++) {
+            queue.poll();
+        }
+        assertTrue(queue.remove("item-30"));
+        queue.close();
+
+        // When
+        final var reopened = open();
+
+        // Then
+        assertEquals(29, reopened.size());
+        for (int i = 20; i < 50; i++) {
+            if (i != 30) {
+                assertEquals("item-" + i, reopened.poll());
+            }
+        }
+        assertThrows(NoSuchElementException.class, reopened::poll);
+        reopened.add("after-reopen");
+        reopened.close();
+        assertEquals("after-reopen", open().poll());
+    }
+
+    @Test
+    @Timeout(5)
+    void testConsumedSegmentsAreDeleted() throws IOException {
+        // Given
+        final var queue = open();
+        for (int i = 0; i < 200; i++) {
+            queue.add("item-" + i);
+        }
+        final int segments = queue.segmentCount();
+        assertTrue(segments > 10);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            queue.poll();
+        }
+        assertThrows(NoSuchElementException.class, queue::poll);
+
+        // Then
+        assertEquals(1, queue.segmentCount());
+        assertEquals(1, countSegmentFiles());
+        queue.close();
+    }
+
+    @Test
+    @Timeout(5)
+    void testTornRecordIsDiscarded() throws IOException {
+        // Given
+        final var queue = open();
+        queue.add("first");
+        queue.add("second");
+        queue.close();
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.filter(p -> p.getFileName().toString().startsWith("segment-")).findFirst().orElseThrow();
+        }
+        // flip a payload byte of the second record, as if the machine died in the middle of writing it
+        try (var channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), 9 + "first".length() + 9);
+        }
+
+        // When
+        final var reopened = open();
+
+        // Then
+        assertEquals(1, reopened.size());
+        reopened.add("third");
+        reopened.close();
+        final var again = open();
+        assertEquals("first", again.poll());
+        assertEquals("third", again.poll());
+        assertThrows(NoSuchElementException.class, again::poll);
+    }
+
+    @Test
+    @Timeout(5)
+    void testRecordsAfterLostPageDoNotReappear() throws IOException {
+        // Given
+        final var queue = open();
+        for (int i = 0; i < 5; i++) {
+            queue.add("a" + i);
+        }
+        queue.close();
+        // zero the second record only, as if its page was lost in a machine crash while later pages were flushed
+        final int recordLength = 9 + "a0".length();
+        try (var channel = FileChannel.open(firstSegment(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[recordLength]), recordLength);
+        }
+
+        // When
+        final var reopened = open();
+        assertEquals(1, reopened.size());
+        // same length as the lost record, so the next record starts where a2 used to
+        reopened.add("b0");
+        reopened.close();
+
+        // Then
+        final var again = open();
+        assertEquals(2, again.size());
+        assertEquals("a0", again.poll());
+        assertEquals("b0", again.poll());
+        assertThrows(NoSuchElementException.class, again::poll);
+        again.close();
+    }
+
+    @Test
+    @Timeout(10)
+    void testConcurrentAddPollAndForce() throws InterruptedException, IOException {
+        // Given
+        final var queue = open();
+        final int pairs = 4;
+        final int perProducer = 2000;
+        final var consumed = new ConcurrentLinkedQueue<String>();
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int p = 0; p < pairs; p++) {
+            final int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.add(producer + "-" + i);
+                    if (i % 100 == 0) {
+                        queue.force();
+                    }
+                }
+            }));
+            threads.add(new Thread(() -> {
+                int taken = 0;
+                while (taken < perProducer) {
+                    try {
+                        consumed.add(queue.poll());
+                        taken++;
+                    } catch (NoSuchElementException e) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(pairs * perProducer, consumed.size());
+        assertEquals(pairs * perProducer, new HashSet<>(consumed).size());
+        assertEquals(0, queue.size());
+        queue.close();
+    }
+
+    private Path firstSegment() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().startsWith("segment-")).sorted().findFirst()
+                    .orElseThrow();
+        }
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().startsWith("segment-")).count();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.datastructures.queue;
+
+import org.example.datastructures.SampleType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlatCombiningQueueTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testFifoOrder() {
+        // Given
+        final var queue = new FlatCombiningQueue<Integer>();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+        }
+
+        // Then
+        assertEquals(100, queue.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.poll());
+        }
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testEmptyQueueThrowsException() {
+        // Given
+        final var queue = new FlatCombiningQueue<SampleType>();
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, queue::poll);
+        assertThrows(NoSuchElementException.class, queue::peek);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRemove() {
+        // Given
+        final var queue = new FlatCombiningQueue<Integer>();
+        for (int i = 0; i < 5; i++) {
+            queue.add(i);
+        }
+
+        // When & Then
+        assertTrue(queue.remove(0));
+        assertTrue(queue.remove(3));
+        assertFalse(queue.remove(3));
+        assertFalse(queue.remove(42));
+        assertEquals(3, queue.size());
+        assertEquals(1, queue.peek());
+        assertEquals(1, queue.poll());
+        assertEquals(2, queue.poll());
+        assertEquals(4, queue.poll());
+        assertThrows(NoSuchElementException.class, queue::poll);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testConcurrentAddAndPoll() throws InterruptedException {
+        // Given
+        final var queue = new FlatCombiningQueue<Integer>();
+        final int threadCount = 8;
+        final int perThread = 10_000;
+        final var latch = new CountDownLatch(threadCount);
+        final var polled = new ConcurrentLinkedQueue<Integer>();
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final int base = t * perThread;
+            final var thread = new Thread(() -> {
+                latch.countDown();
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < perThread; i++) {
+                    queue.add(base + i);
+                    polled.add(queue.poll());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(threadCount * perThread, polled.size());
+        assertEquals(threadCount * perThread, new HashSet<>(polled).size());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    void testShortLivedThreadsKeepWorking() throws InterruptedException {
+        // Given
+        final var queue = new FlatCombiningQueue<Integer>();
+        final int rounds = 500;
+
+        // When
+        for (int round = 0; round < rounds; round++) {
+            final int item = round;
+            final var thread = new Thread(() -> queue.add(item));
+            thread.start();
+            thread.join();
+            // enough combining passes for idle records to be unlinked
+            for (int i = 0; i < 10; i++) {
+                queue.add(-1);
+                assertTrue(queue.remove(-1));
+            }
+        }
+
+        // Then
+        assertEquals(rounds, queue.size());
+        for (int round = 0; round < rounds; round++) {
+            assertEquals(round, queue.poll());
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package org.example.datastructures.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+public class QueuePerformanceTest {
+
+    private static final int OPS_PER_THREAD = 50_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+    private static final int READ_HEAVY_WRITE_EVERY = 10;
+    private static final int BATCH_PRODUCERS = 4;
+    private static final int BATCH_ITEMS = 200_000;
+    private static final int BATCH_SIZE = 64;
+    private static final int DURABLE_RECORDS = 1_000_000;
+    private static final int DURABLE_RECORD_SIZE = 128;
+    private static final int DURABLE_FORCE_EVERY = 10_000;
+    private static final int RECYCLING_ITEMS = 20_000_000;
+    private static final int ALLOCATION_ITEMS = 1_000_000;
+    private static final int ALLOCATION_BATCH = 3_000;
+
+    @Test
+    void runComparison() throws InterruptedException {
+        System.out.println("--- Starting Queue Throughput Comparison ---");
+        System.out.println("Ops per thread: " + OPS_PER_THREAD + " (add followed by poll)");
+
+        // Warm up the JVM to trigger JIT optimizations
+        measure(CoarseLockQueue::new, 4);
+        measure(FineLockQueue::new, 4);
+        measure(MichaelScottQueue::new, 4);
+        measure(SegmentedQueue::new, 4);
+        measure(FetchAndAddQueue::new, 4);
+        measure(FlatCombiningQueue::new, 4);
+
+        for (int threads : THREAD_COUNTS) {
+            printResults("CoarseLockQueue", threads, measure(CoarseLockQueue::new, threads));
+            printResults("FineLockQueue", threads, measure(FineLockQueue::new, threads));
+            printResults("MichaelScottQueue", threads, measure(MichaelScottQueue::new, threads));
+            printResults("SegmentedQueue", threads, measure(SegmentedQueue::new, threads));
+            printResults("FetchAndAddQueue", threads, measure(FetchAndAddQueue::new, threads));
+            printResults("FlatCombiningQueue", threads, measure(FlatCombiningQueue::new, threads));
+        }
+    }
+
+    @Test
+    void runReadHeavyComparison() throws InterruptedException {
+        System.out.println("--- Starting Queue Read-Heavy Comparison ---");
+        System.out.println("Ops per thread: " + OPS_PER_THREAD + " (1 in " + READ_HEAVY_WRITE_EVERY
+                + " is add followed by poll, the rest peek)");
+
+        // Warm up the JVM to trigger JIT optimizations
+        measureReadHeavy(new CoarseLockQueue<>(), 4);
+        measureReadHeavy(new StampedLockQueue<>(), 4);
+
+        for (int threads : THREAD_COUNTS) {
+            printResults("CoarseLockQueue", threads, measureReadHeavy(new CoarseLockQueue<>(), threads));
+            printResults("StampedLockQueue", threads, measureReadHeavy(new StampedLockQueue<>(), threads));
+        }
+    }
+
+    private long measureReadHeavy(Queue<Integer> queue, int threadCount) throws InterruptedException {
+        // never empty, so peek does not throw
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+        }
+        final var start = new CountDownLatch(1);
+        final var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    if (i % READ_HEAVY_WRITE_EVERY == 0) {
+                        queue.add(i);
+                        queue.poll();
+                    } else {
+                        queue.peek();
+                    }
+                }
+            });
+            workers.add(thread);
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (var thread : workers) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return ((long) OPS_PER_THREAD * threadCount * 1_000_000L) / Math.max(elapsed, 1);
+    }
+
+    @Test
+    void runBatchComparison() throws InterruptedException {
+        System.out.println("--- Starting Queue Batch Comparison ---");
+        System.out.println("Producers: " + BATCH_PRODUCERS + ", items per producer: " + BATCH_ITEMS
+                + ", batch size: " + BATCH_SIZE);
+
+        // Warm up the JVM to trigger JIT optimizations
+        measureBatch(new FineLockQueue<>(), false);
+        measureBatch(new FineLockQueue<>(), true);
+        measureBatch(new CoarseLockQueue<>(), false);
+        measureBatch(new CoarseLockQueue<>(), true);
+
+        printResults("FineLockQueue add/poll", BATCH_PRODUCERS, measureBatch(new FineLockQueue<>(), false));
+        printResults("FineLockQueue addAll/drainTo", BATCH_PRODUCERS, measureBatch(new FineLockQueue<>(), true));
+        printResults("CoarseLockQueue add/poll", BATCH_PRODUCERS, measureBatch(new CoarseLockQueue<>(), false));
+        printResults("CoarseLockQueue addAll/drainTo", BATCH_PRODUCERS, measureBatch(new CoarseLockQueue<>(), true));
+    }
+
+    // Producers add BATCH_ITEMS each, then the calling thread removes everything. Returns items per ms.
+    private long measureBatch(Queue<Integer> queue, boolean batched) throws InterruptedException {
+        final var batch = new ArrayList<Integer>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(i);
+        }
+        final var start = new CountDownLatch(1);
+        final var producers = new ArrayList<Thread>();
+        for (int t = 0; t < BATCH_PRODUCERS; t++) {
+            final var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int done = 0; done < BATCH_ITEMS; done += BATCH_SIZE) {
+                    if (batched) {
+                        addAll(queue, batch);
+                    } else {
+                        for (var item : batch) {
+                            queue.add(item);
+                        }
+                    }
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (var thread : producers) {
+            thread.join();
+        }
+        final var sink = new ArrayList<Integer>(BATCH_SIZE);
+        int remaining = BATCH_PRODUCERS * BATCH_ITEMS;
+        while (remaining > 0) {
+            if (batched) {
+                remaining -= drainTo(queue, sink);
+                sink.clear();
+            } else {
+                queue.poll();
+                remaining--;
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        return (2L * BATCH_PRODUCERS * BATCH_ITEMS * 1_000_000L) / Math.max(elapsed, 1);
+    }
+
+    private void addAll(Queue<Integer> queue, List<Integer> batch) {
+        if (queue instanceof FineLockQueue) {
+            ((FineLockQueue<Integer>) queue).addAll(batch);
+        } else {
+            ((CoarseLockQueue<Integer>) queue).addAll(batch);
+        }
+    }
+
+    private int drainTo(Queue<Integer> queue, List<Integer> sink) {
+        if (queue instanceof FineLockQueue) {
+            return ((FineLockQueue<Integer>) queue).drainTo(sink, BATCH_SIZE);
+        }
+        return ((CoarseLockQueue<Integer>) queue).drainTo(sink, BATCH_SIZE);
+    }
+
+    @Test
+    void runDurableComparison() throws IOException {
+        System.out.println("--- Starting Durable Queue Throughput ---");
+        System.out.println("Records: " + DURABLE_RECORDS + " x " + DURABLE_RECORD_SIZE + " bytes, force() every "
+                + DURABLE_FORCE_EVERY + " records");
+        final var record = new byte[DURABLE_RECORD_SIZE];
+        final double megabytes = (double) DURABLE_RECORDS * DURABLE_RECORD_SIZE / (1 << 20);
+        final var directory = Files.createTempDirectory("durable-queue");
+        try {
+            // Baseline: the same bytes written sequentially through a FileChannel, forced once at the end
+            long begin = System.nanoTime();
+            final var baseline = directory.resolve("baseline.dat");
+            try (var out = new BufferedOutputStream(Files.newOutputStream(baseline), 1 << 16)) {
+                for (int i = 0; i < DURABLE_RECORDS; i++) {
+                    out.write(record);
+                }
+            }
+            try (var channel = FileChannel.open(baseline, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            long elapsed = System.nanoTime() - begin;
+            System.out.printf("Sequential FileChannel write: %.1f MB/s%n", megabytes * 1e9 / elapsed);
+
+            final var queue = new DurableQueue<byte[]>(directory.resolve("queue"), b -> b, b -> b);
+            begin = System.nanoTime();
+            for (int i = 0; i < DURABLE_RECORDS; i++) {
+                queue.add(record);
+                if (i % DURABLE_FORCE_EVERY == DURABLE_FORCE_EVERY - 1) {
+                    queue.force();
+                }
+            }
+            queue.force();
+            elapsed = System.nanoTime() - begin;
+            System.out.printf("DurableQueue add: %.1f MB/s%n", megabytes * 1e9 / elapsed);
+
+            begin = System.nanoTime();
+            for (int i = 0; i < DURABLE_RECORDS; i++) {
+                queue.poll();
+            }
+            queue.force();
+            elapsed = System.nanoTime() - begin;
+            System.out.printf("DurableQueue poll: %.1f MB/s%n", megabytes * 1e9 / elapsed);
+            queue.close();
+        } finally {
+            try (var files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void runRecyclingGcComparison() throws InterruptedException {
+        System.out.println("--- Starting Node Recycling GC Comparison ---");
+        System.out.println("Items: " + RECYCLING_ITEMS + ", one producer and one consumer thread");
+
+        // Warm up the JVM to trigger JIT optimizations
+        measureGc(new FineLockQueue<>(false), RECYCLING_ITEMS / 10);
+        measureGc(new FineLockQueue<>(true), RECYCLING_ITEMS / 10);
+
+        System.out.println("FineLockQueue: " + measureGc(new FineLockQueue<>(false), RECYCLING_ITEMS));
+        System.out.println("FineLockQueue (recycling): " + measureGc(new FineLockQueue<>(true), RECYCLING_ITEMS));
+    }
+
+    // Sustained producer/consumer workload, reports the collections and collection time it caused.
+    private String measureGc(Queue<Integer> queue, int itemCount) throws InterruptedException {
+        final var item = Integer.valueOf(42);
+        final var producer = new Thread(() -> {
+            for (int i = 0; i < itemCount; i++) {
+                queue.add(item);
+            }
+        });
+        final var consumer = new Thread(() -> {
+            int taken = 0;
+            while (taken < itemCount) {
+                try {
+                    queue.poll();
+                    taken++;
+                } catch (NoSuchElementException e) {
+                    Thread.yield();
+                }
+            }
+        });
+        System.gc();
+        long collectionsBefore = 0;
+        long timeBefore = 0;
+        for (var gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collectionsBefore += gc.getCollectionCount();
+            timeBefore += gc.getCollectionTime();
+        }
+        long begin = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long elapsed = System.nanoTime() - begin;
+        long collections = -collectionsBefore;
+        long time = -timeBefore;
+        for (var gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections += gc.getCollectionCount();
+            time += gc.getCollectionTime();
+        }
+        return String.format("%d ms total, %d collections, %d ms in GC", elapsed / 1_000_000, collections, time);
+    }
+
+    @Test
+    void runAllocationComparison() {
+        System.out.println("--- Starting Queue Allocation Comparison ---");
+        System.out.println("Items: " + ALLOCATION_ITEMS + ", at most " + ALLOCATION_BATCH + " queued at a time");
+        final var items = new Integer[ALLOCATION_BATCH];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+
+        // Warm up the JVM to trigger JIT optimizations
+        measureAllocation(new FineLockQueue<>(), items);
+        measureAllocation(new SegmentedQueue<>(), items);
+
+        System.out.printf("FineLockQueue: %.2f bytes/item%n", measureAllocation(new FineLockQueue<>(), items));
+        System.out.printf("FineLockQueue (recycling): %.2f bytes/item%n",
+                measureAllocation(new FineLockQueue<>(true), items));
+        System.out.printf("CoarseLockQueue: %.2f bytes/item%n", measureAllocation(new CoarseLockQueue<>(), items));
+        System.out.printf("MichaelScottQueue: %.2f bytes/item%n", measureAllocation(new MichaelScottQueue<>(), items));
+        System.out.printf("SegmentedQueue: %.2f bytes/item%n", measureAllocation(new SegmentedQueue<>(), items));
+    }
+
+    // Bytes allocated by the current thread per item added and polled. The items are preallocated, so only the
+    // queue's own allocations are counted.
+    private double measureAllocation(Queue<Integer> queue, Integer[] items) {
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int done = 0; done < ALLOCATION_ITEMS; done += items.length) {
+            for (var item : items) {
+                queue.add(item);
+            }
+            for (int i = 0; i < items.length; i++) {
+                queue.poll();
+            }
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        return (double) allocated / ALLOCATION_ITEMS;
+    }
+
+    private long measure(Supplier<Queue<Integer>> factory, int threadCount) throws InterruptedException {
+        final var queue = factory.get();
+        final var ready = new CountDownLatch(threadCount);
+        final var start = new CountDownLatch(1);
+        final var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final var thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    queue.add(i);
+                    queue.poll();
+                }
+            });
+            workers.add(thread);
+            thread.start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (var thread : workers) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return (2L * OPS_PER_THREAD * threadCount * 1_000_000L) / Math.max(elapsed, 1);
+    }
+
+    private void printResults(String label, int threads, long opsPerMs) {
+        System.out.printf("%s, %d threads: %d ops/ms%n", label, threads, opsPerMs);
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.datastructures.queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedQueueTest {
+
+    @Test
+    @Timeout(5)
+    void testFifoOrderAcrossSegments() {
+        // Given
+        final var queue = new SegmentedQueue<Integer>();
+        final int count = 5 * SegmentedQueue.SEGMENT_SIZE + 7;
+
+        // When & Then
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < count; i++) {
+                queue.add(i);
+            }
+            assertEquals(count, queue.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, queue.peek());
+                assertEquals(i, queue.poll());
+            }
+            assertThrows(NoSuchElementException.class, queue::poll);
+            assertThrows(NoSuchElementException.class, queue::peek);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void testNullItemIsRejected() {
+        // Given
+        final var queue = new SegmentedQueue<Integer>();
+
+        // When & Then
+        assertThrows(NullPointerException.class, () -> queue.add(null));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(5)
+    void testRemoveAcrossSegmentBoundary() {
+        // Given
+        final var queue = new SegmentedQueue<Integer>();
+        final int last = SegmentedQueue.SEGMENT_SIZE;
+        for (int i = 0; i <= last; i++) {
+            queue.add(i);
+        }
+
+        // When
+        for (int i = 0; i < last; i++) {
+            assertTrue(queue.remove(i));
+        }
+
+        // Then
+        assertFalse(queue.remove(0));
+        assertEquals(1, queue.size());
+        assertEquals(last, queue.peek());
+        assertEquals(last, queue.poll());
+        assertThrows(NoSuchElementException.class, queue::poll);
+    }
+
+    @Test
+    @Timeout(10)
+    void testConcurrentProducersAndConsumers() throws InterruptedException {
+        // Given
+        final var queue = new SegmentedQueue<Integer>();
+        final int pairs = 4;
+        final int perProducer = 20_000;
+        final var latch = new CountDownLatch(2 * pairs);
+        final var consumed = new ConcurrentLinkedQueue<Integer>();
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int p = 0; p < pairs; p++) {
+            final int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                latch.countDown();
+                for (int i = 0; i < perProducer; i++) {
+                    queue.add(base + i);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                latch.countDown();
+                int taken = 0;
+                while (taken < perProducer) {
+                    try {
+                        consumed.add(queue.poll());
+                        taken++;
+                    } catch (NoSuchElementException e) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(pairs * perProducer, consumed.size());
+        assertEquals(pairs * perProducer, new HashSet<>(consumed).size());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @Timeout(10)
+    void testConcurrentConsumersNeverSeeNullOrLoseItems() throws InterruptedException {
+        // Given
+        final var queue = new SegmentedQueue<Integer>();
+        final int producers = 2;
+        final int consumers = 8;
+        final int perProducer = 100_000;
+        final int total = producers * perProducer;
+        final var latch = new CountDownLatch(producers + consumers);
+        final var consumed = new ConcurrentLinkedQueue<Integer>();
+        final var nulls = new AtomicInteger(0);
+        // polls that returned something, a null stands in for an item that was skipped
+        final var finished = new AtomicInteger(0);
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                await(latch);
+                for (int i = 0; i < perProducer; i++) {
+                    queue.add(base + i);
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                await(latch);
+                while (finished.get() < total) {
+                    try {
+                        final var item = queue.poll();
+                        if (item == null) {
+                            nulls.incrementAndGet();
+                        } else {
+                            consumed.add(item);
+                        }
+                        finished.incrementAndGet();
+                    } catch (NoSuchElementException e) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(0, nulls.get());
+        assertEquals(total, consumed.size());
+        assertEquals(total, new HashSet<>(consumed).size());
+        assertEquals(0, queue.size());
+        assertThrows(NoSuchElementException.class, queue::poll);
+    }
+
+    private static void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package org.example.datastructures.stack;
+
+import org.example.datastructures.SampleType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EliminationBackoffStackTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testPushAndPop() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+        final var item = new SampleType("test-item");
+
+        // When
+        stack.push(item);
+        var retrieved = stack.pop();
+
+        // Then
+        assertEquals(item, retrieved);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testPeek() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+        final var item = new SampleType("test-item");
+
+        // When
+        stack.push(item);
+
+        // Then
+        assertEquals(item, stack.peek());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testSize() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+
+        // When
+        final int count = 6;
+        for (int i = 0; i < count; i++) {
+            stack.push(new SampleType("item-" + i));
+        }
+
+        // Then
+        assertEquals(count, stack.size());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testIsEmpty() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+
+        // When & Then
+        assertTrue(stack.isEmpty());
+        final int count = 6;
+        for (int i = 0; i < count; i++) {
+            stack.push(new SampleType("item-" + i));
+        }
+        assertFalse(stack.isEmpty());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testPopFromEmptyStackThrowsException() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, stack::pop);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testPeekFromEmptyStackThrowsException() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, stack::peek);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testConcurrentPushAndPop() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+        final int count = 6;
+        final var items = new ArrayList<SampleType>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new SampleType("item-" + i));
+        }
+
+        // When
+        final var idx = new AtomicInteger(0);
+        final var latch = new CountDownLatch(count);
+        final var set = Collections.synchronizedSet(new HashSet<>(count));
+        Runnable action = () -> {
+            latch.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            var myIdx = idx.getAndIncrement();
+            stack.push(items.get(myIdx));
+            set.add(stack.pop());
+        };
+        final var threads = new ArrayList<Thread>();
+        for (int i = 0; i < count; i++) {
+            final var thread = new Thread(action);
+            threads.add(thread);
+            thread.start();
+        }
+
+        // Then
+        for (int i = 0; i < count; i++) {
+            threads.get(i).join();
+        }
+        assertEquals(count, set.size());
+        assertTrue(stack.isEmpty());
+        for (var item : items) {
+            assertTrue(set.contains(item));
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testConcurrentPush() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+        final int count = 6;
+        final var items = new ArrayList<SampleType>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new SampleType("item-" + i));
+        }
+
+        // When
+        final var idx = new AtomicInteger(0);
+        final var latch = new CountDownLatch(count);
+        final var set = Collections.synchronizedSet(new HashSet<>(count));
+        Runnable action = () -> {
+            latch.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            var myIdx = idx.getAndIncrement();
+            var toPush = items.get(myIdx);
+            set.add(toPush);
+            stack.push(toPush);
+        };
+        final var threads = new ArrayList<Thread>();
+        for (int i = 0; i < count; i++) {
+            final var thread = new Thread(action);
+            threads.add(thread);
+            thread.start();
+        }
+
+        // Then
+        for (int i = 0; i < count; i++) {
+            threads.get(i).join();
+        }
+        assertEquals(count, set.size());
+        assertFalse(stack.isEmpty());
+        assertEquals(count, stack.size());
+        for (var item : items) {
+            assertTrue(set.contains(item));
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testConcurrentPop() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<SampleType>();
+        final int count = 6;
+        final var items = new ArrayList<SampleType>(count);
+        for (int i = 0; i < count; i++) {
+            final var item = new SampleType("item-" + i);
+            items.add(item);
+            stack.push(item);
+        }
+
+        // When
+        final var latch = new CountDownLatch(count);
+        final var set = Collections.synchronizedSet(new HashSet<>(count));
+        Runnable action = () -> {
+            latch.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            set.add(stack.pop());
+        };
+        final var threads = new ArrayList<Thread>();
+        for (int i = 0; i < count; i++) {
+            final var thread = new Thread(action);
+            threads.add(thread);
+            thread.start();
+        }
+
+        // Then
+        for (int i = 0; i < count; i++) {
+            threads.get(i).join();
+        }
+        assertEquals(count, set.size());
+        assertTrue(stack.isEmpty());
+        for (var item : items) {
+            assertTrue(set.contains(item));
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testEliminationHandsPushedItemsToPops() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<Integer>(1);
+        final int pairs = 2;
+        final int perThread = 100;
+        final var taken = ConcurrentHashMap.<Integer>newKeySet();
+        final var duplicates = new AtomicInteger(0);
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int t = 0; t < pairs; t++) {
+            final int base = t * perThread;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    while (stack.eliminate(true, base + i) == null) {
+                        // no pop met this push, offer again
+                    }
+                }
+            }));
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    EliminationBackoffStack.Offer offer;
+                    while ((offer = stack.eliminate(false, null)) == null) {
+                        // no push met this pop, offer again
+                    }
+                    if (!taken.add((Integer) offer.item)) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(0, duplicates.get());
+        assertEquals(pairs * perThread, taken.size());
+        assertEquals(pairs * perThread, stack.eliminationCount());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testPairedPushersAndPoppersLoseNothing() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<Integer>(1);
+        final int pairs = 4;
+        final int perThread = 20_000;
+        final var taken = ConcurrentHashMap.<Integer>newKeySet();
+        final var duplicates = new AtomicInteger(0);
+        final var latch = new CountDownLatch(2 * pairs);
+
+        // When
+        final var threads = new ArrayList<Thread>();
+        for (int t = 0; t < pairs; t++) {
+            final int base = t * perThread;
+            threads.add(new Thread(() -> {
+                await(latch);
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                await(latch);
+                int popped = 0;
+                while (popped < perThread) {
+                    try {
+                        if (!taken.add(stack.pop())) {
+                            duplicates.incrementAndGet();
+                        }
+                        popped++;
+                    } catch (NoSuchElementException e) {
+                        // pushers are behind, try again
+                    }
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        // whether pairs meet depends on the cores available, but each one uses up one push and one pop
+        assertTrue(stack.eliminationCount() <= pairs * perThread);
+        assertEquals(0, duplicates.get());
+        assertEquals(pairs * perThread, taken.size());
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testRangeWidensOnCollisionAndNarrowsWithoutPartner() throws InterruptedException {
+        // Given
+        final var stack = new EliminationBackoffStack<Integer>(4);
+        final var stop = new AtomicBoolean(false);
+        final var helper = new Thread(() -> {
+            while (!stop.get()) {
+                stack.eliminate(true, -1);
+            }
+        });
+        helper.start();
+
+        // When
+        // another push keeps offering, so this push eventually finds the slot taken by the same operation
+        while (stack.range() == 1) {
+            stack.eliminate(true, 1);
+        }
+        final int widened = stack.range();
+        stop.set(true);
+        helper.join();
+        for (int i = 0; i < 4; i++) {
+            // nobody else is offering, every visit times out
+            stack.eliminate(true, 1);
+        }
+
+        // Then
+        assertTrue(widened > 1);
+        assertEquals(1, stack.range());
+        assertEquals(0, stack.eliminationCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.datastructures.stack;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+public class StackPerformanceTest {
+
+    private static final int OPS_PER_THREAD = 50_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+    private static final int READ_HEAVY_WRITE_EVERY = 10;
+
+    @Test
+    void runComparison() throws InterruptedException {
+        System.out.println("--- Starting Stack Throughput Comparison ---");
+        System.out.println("Ops per thread: " + OPS_PER_THREAD + " (push followed by pop)");
+
+        // Warm up the JVM to trigger JIT optimizations
+        measure(SafeStack::new, 4);
+        measure(TrieberStack::new, 4);
+        measure(FlatCombiningStack::new, 4);
+        measure(EliminationBackoffStack::new, 4);
+
+        for (int threads : THREAD_COUNTS) {
+            printResults("SafeStack", threads, measure(SafeStack::new, threads));
+            printResults("TrieberStack", threads, measure(TrieberStack::new, threads));
+            printResults("FlatCombiningStack", threads, measure(FlatCombiningStack::new, threads));
+            printResults("EliminationBackoffStack", threads, measure(EliminationBackoffStack::new, threads));
+        }
+    }
+
+    @Test
+    void runReadHeavyComparison() throws InterruptedException {
+        System.out.println("--- Starting Stack Read-Heavy Comparison ---");
+        System.out.println("Ops per thread: " + OPS_PER_THREAD + " (1 in " + READ_HEAVY_WRITE_EVERY
+                + " is push followed by pop, the rest peek)");
+
+        // Warm up the JVM to trigger JIT optimizations
+        measureReadHeavy(SafeStack::new, 4);
+        measureReadHeavy(StampedLockStack::new, 4);
+
+        for (int threads : THREAD_COUNTS) {
+            printResults("SafeStack", threads, measureReadHeavy(SafeStack::new, threads));
+            printResults("StampedLockStack", threads, measureReadHeavy(StampedLockStack::new, threads));
+        }
+    }
+
+    private long measureReadHeavy(Supplier<Stack<Integer>> factory, int threadCount) throws InterruptedException {
+        final var stack = factory.get();
+        // never empty, so peek does not throw
+        stack.push(-1);
+        final var start = new CountDownLatch(1);
+        final var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    if (i % READ_HEAVY_WRITE_EVERY == 0) {
+                        stack.push(i);
+                        stack.pop();
+                    } else {
+                        stack.peek();
+                    }
+                }
+            });
+            workers.add(thread);
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (var thread : workers) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return ((long) OPS_PER_THREAD * threadCount * 1_000_000L) / Math.max(elapsed, 1);
+    }
+
+    private long measure(Supplier<Stack<Integer>> factory, int threadCount) throws InterruptedException {
+        final var stack = factory.get();
+        final var ready = new CountDownLatch(threadCount);
+        final var start = new CountDownLatch(1);
+        final var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final var thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    stack.push(i);
+                    stack.pop();
+                }
+            });
+            workers.add(thread);
+            thread.start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (var thread : workers) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return (2L * OPS_PER_THREAD * threadCount * 1_000_000L) / Math.max(elapsed, 1);
+    }
+
+    private void printResults(String label, int threads, long opsPerMs) {
+        System.out.printf("%s, %d threads: %d ops/ms%n", label, threads, opsPerMs);
+    }
+}
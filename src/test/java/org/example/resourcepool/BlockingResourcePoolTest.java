@@ -3,6 +3,8 @@ package org.example.resourcepool;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import java.util.HashSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -296,4 +298,212 @@ class BlockingResourcePoolTest {
         // Then
         assertEquals(count, pool.availableCount());
     }
+
+    @Test
+    @Timeout(5)
+    void testLeaseReturnsResourceOnClose() throws InterruptedException {
+        // Given
+        int count = 4;
+        var pool = new BlockingResourcePool<>(count, supplier, validator);
+
+        // When & Then
+        try (var lease = pool.lease()) {
+            assertNotNull(lease.get());
+            assertEquals(count - 1, pool.availableCount());
+        }
+        assertEquals(count, pool.availableCount());
+    }
+
+    @Test
+    @Timeout(5)
+    void testLeaseCloseIsIdempotent() throws InterruptedException {
+        // Given
+        int count = 4;
+        var pool = new BlockingResourcePool<>(count, supplier, validator);
+
+        // When
+        var lease = pool.lease();
+        lease.close();
+        lease.close();
+
+        // Then
+        assertEquals(count, pool.availableCount());
+        assertThrows(IllegalStateException.class, lease::get);
+    }
+
+    @Test
+    @Timeout(5)
+    void testLeaseWithTimeoutFailure() throws InterruptedException {
+        // Given
+        var pool = new BlockingResourcePool<>(1, supplier, validator);
+        var held = pool.lease();
+
+        // When & Then
+        assertNull(pool.lease(100, TimeUnit.MILLISECONDS));
+        held.close();
+        try (var lease = pool.lease(100, TimeUnit.MILLISECONDS)) {
+            assertNotNull(lease);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void testLeakReportedAfterHoldThreshold() throws InterruptedException {
+        // Given
+        var reports = new CopyOnWriteArrayList<LeakDetector.LeakReport>();
+        var detector = new LeakDetector(1, 100, TimeUnit.MILLISECONDS, reports::add);
+        var pool = new BlockingResourcePool<>(2, supplier, validator, detector);
+
+        // When
+        var held = pool.lease();
+        try (var quick = pool.lease()) {
+            assertNotNull(quick.get());
+        }
+        Thread.sleep(400);
+
+        // Then
+        assertEquals(1, reports.size());
+        assertFalse(reports.get(0).isReclaimed());
+        assertTrue(reports.get(0).getHeld(TimeUnit.MILLISECONDS) >= 100);
+        held.close();
+        assertEquals(2, pool.availableCount());
+    }
+
+    @Test
+    @Timeout(5)
+    void testLeakedLeaseIsReclaimed() throws InterruptedException {
+        // Given
+        var reports = new CopyOnWriteArrayList<LeakDetector.LeakReport>();
+        var detector = new LeakDetector(1, 1, TimeUnit.HOURS, reports::add);
+        var pool = new BlockingResourcePool<>(2, supplier, validator, detector);
+
+        // When
+        pool.lease();
+        assertEquals(1, pool.availableCount());
+        while (pool.availableCount() != 2) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        // Then
+        assertEquals(1, reports.size());
+        assertTrue(reports.get(0).isReclaimed());
+    }
+
+    @Test
+    @Timeout(5)
+    void testAcquireBatchAndReleaseAll() throws InterruptedException {
+        // Given
+        int count = 4;
+        var pool = new BlockingResourcePool<>(count, supplier, validator);
+
+        // When
+        var batch = pool.acquire(3);
+
+        // Then
+        assertEquals(3, batch.size());
+        assertEquals(3, new HashSet<>(batch).size());
+        assertEquals(count - 3, pool.availableCount());
+        pool.releaseAll(batch);
+        assertEquals(count, pool.availableCount());
+    }
+
+    @Test
+    @Timeout(5)
+    void testAcquireBatchRejectsInvalidSize() {
+        // Given
+        var pool = new BlockingResourcePool<>(4, supplier, validator);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(0));
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(5));
+    }
+
+    @Test
+    @Timeout(5)
+    void testAcquireBatchWithTimeoutFailureKeepsPermits() throws InterruptedException {
+        // Given
+        int count = 4;
+        var pool = new BlockingResourcePool<>(count, supplier, validator);
+        var held = pool.acquire();
+
+        // When & Then
+        assertNull(pool.acquire(count, 100, TimeUnit.MILLISECONDS));
+        assertEquals(count - 1, pool.availableCount());
+        pool.release(held);
+        assertNotNull(pool.acquire(count, 100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @Timeout(5)
+    void testConcurrentBatchAcquiresDoNotDeadlock() throws InterruptedException {
+        // Given
+        int count = 4;
+        var pool = new BlockingResourcePool<>(count, supplier, validator);
+        var completed = new AtomicInteger(0);
+
+        // When
+        Runnable threadAction = () -> {
+            try {
+                for (int i = 0; i < 50; i++) {
+                    var batch = pool.acquire(3);
+                    pool.releaseAll(batch);
+                }
+                completed.incrementAndGet();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        var threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(threadAction);
+            threads[i].start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(threads.length, completed.get());
+        assertEquals(count, pool.availableCount());
+    }
+
+    @Test
+    @Timeout(5)
+    void testBatchAcquireIsNotStarvedBySingleAcquirers() throws InterruptedException {
+        // Given
+        int count = 4;
+        var pool = new BlockingResourcePool<>(count, supplier, validator);
+        var stop = new AtomicBoolean(false);
+        Runnable churn = () -> {
+            try {
+                while (!stop.get()) {
+                    var res = pool.acquire();
+                    Thread.sleep(5);
+                    pool.release(res);
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        var churners = new Thread[3];
+        for (int i = 0; i < churners.length; i++) {
+            churners[i] = new Thread(churn);
+            churners[i].start();
+        }
+        Thread.sleep(50);
+
+        // When
+        var batch = pool.acquire(count, 2, TimeUnit.SECONDS);
+        stop.set(true);
+
+        // Then
+        assertNotNull(batch);
+        assertEquals(count, batch.size());
+        pool.releaseAll(batch);
+        for (var thread : churners) {
+            thread.join();
+        }
+        assertEquals(count, pool.availableCount());
+    }
 }